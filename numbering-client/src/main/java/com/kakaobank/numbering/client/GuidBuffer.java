@@ -0,0 +1,62 @@
+package com.kakaobank.numbering.client;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * GUIDs fetched ahead of time from {@code POST /api/v1/guid/stream}.
+ */
+public final class GuidBuffer extends PrefetchBuffer {
+
+    // One stream request per refill; the server caps a stream far above any sensible watermark
+    private static final int MAX_FETCH = 100_000;
+
+    private final NumberingHttpApi api;
+    private final Queue<String> guids = new ConcurrentLinkedQueue<>();
+
+    GuidBuffer(NumberingHttpApi api, int lowWatermark, int highWatermark, Executor executor, Duration missTimeout) {
+        super(lowWatermark, highWatermark, MAX_FETCH, executor, missTimeout);
+        this.api = api;
+    }
+
+    /**
+     * Takes a GUID from the buffer. Only when the buffer is empty does this wait for the
+     * background refill, up to the miss timeout.
+     *
+     * @throws NumberingClientException if no GUID arrived in time or the refill failed
+     */
+    public String next() {
+        long deadline = 0;
+        while (true) {
+            String guid = guids.poll();
+            if (guid != null) {
+                taken();
+                return guid;
+            }
+            deadline = awaitRefill(deadline);
+        }
+    }
+
+    /**
+     * Takes a GUID without waiting, or returns null when the buffer is empty.
+     */
+    public String tryNext() {
+        String guid = guids.poll();
+        if (guid == null) {
+            missed();
+            return null;
+        }
+        taken();
+        return guid;
+    }
+
+    @Override
+    int fetch(int count) {
+        String[] fetched = api.fetchGuids(count);
+        Collections.addAll(guids, fetched);
+        return fetched.length;
+    }
+}
\ No newline at end of file
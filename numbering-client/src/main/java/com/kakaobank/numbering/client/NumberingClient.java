@@ -0,0 +1,154 @@
+package com.kakaobank.numbering.client;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Client for the numbering API that hands out GUIDs and sequence values from local buffers.
+ * <pre>
+ * NumberingClient client = NumberingClient.builder(URI.create("http://numbering-api:8080"))
+ *     .lowWatermark(1_000)
+ *     .highWatermark(10_000)
+ *     .build();
+ * String guid = client.guids().next();
+ * long sequence = client.sequences().next();
+ * </pre>
+ * Each buffer starts filling on first use. Share one client per process; {@link #close()}
+ * stops the background refills.
+ */
+public final class NumberingClient implements AutoCloseable {
+
+    private final NumberingHttpApi api;
+    private final ExecutorService refillExecutor;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final Duration missTimeout;
+    private volatile GuidBuffer guids;
+    private volatile SequenceBuffer sequences;
+
+    private NumberingClient(Builder builder) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(builder.connectTimeout)
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        this.api = new NumberingHttpApi(httpClient, builder.baseUri, builder.requestTimeout, builder.maxRetries,
+            builder.retryBackoff);
+        this.refillExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "numbering-client-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lowWatermark = builder.lowWatermark;
+        this.highWatermark = builder.highWatermark;
+        this.missTimeout = builder.missTimeout;
+    }
+
+    public static Builder builder(URI baseUri) {
+        return new Builder(baseUri);
+    }
+
+    public GuidBuffer guids() {
+        GuidBuffer buffer = guids;
+        if (buffer == null) {
+            synchronized (this) {
+                buffer = guids;
+                if (buffer == null) {
+                    buffer = new GuidBuffer(api, lowWatermark, highWatermark, refillExecutor, missTimeout);
+                    buffer.startRefill();
+                    guids = buffer;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    public SequenceBuffer sequences() {
+        SequenceBuffer buffer = sequences;
+        if (buffer == null) {
+            synchronized (this) {
+                buffer = sequences;
+                if (buffer == null) {
+                    buffer = new SequenceBuffer(api, lowWatermark, highWatermark, refillExecutor, missTimeout);
+                    buffer.startRefill();
+                    sequences = buffer;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    @Override
+    public void close() {
+        refillExecutor.shutdownNow();
+    }
+
+    public static final class Builder {
+        private final URI baseUri;
+        private int lowWatermark = 500;
+        private int highWatermark = 2_000;
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration requestTimeout = Duration.ofSeconds(2);
+        private int maxRetries = 3;
+        private Duration retryBackoff = Duration.ofMillis(50);
+        private Duration missTimeout = Duration.ofSeconds(5);
+
+        private Builder(URI baseUri) {
+            this.baseUri = baseUri;
+        }
+
+        /**
+         * A background refill starts once fewer IDs than this are buffered.
+         */
+        public Builder lowWatermark(int lowWatermark) {
+            this.lowWatermark = lowWatermark;
+            return this;
+        }
+
+        /**
+         * A refill tops the buffer up to this many IDs.
+         */
+        public Builder highWatermark(int highWatermark) {
+            this.highWatermark = highWatermark;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Retries after connection failures and 502/503/504, pausing {@code retryBackoff}
+         * times the attempt number.
+         */
+        public Builder retries(int maxRetries, Duration retryBackoff) {
+            this.maxRetries = maxRetries;
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        /**
+         * How long {@code next()} waits for a refill when the buffer is empty.
+         */
+        public Builder missTimeout(Duration missTimeout) {
+            this.missTimeout = missTimeout;
+            return this;
+        }
+
+        public NumberingClient build() {
+            if (lowWatermark < 0 || highWatermark <= lowWatermark) {
+                throw new IllegalArgumentException(String.format(
+                    "Watermarks must satisfy 0 <= low < high, got low=%d high=%d", lowWatermark, highWatermark));
+            }
+            return new NumberingClient(this);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.kakaobank.numbering.client;
+
+public class NumberingClientException extends RuntimeException {
+
+    public NumberingClientException(String message) {
+        super(message);
+    }
+
+    public NumberingClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
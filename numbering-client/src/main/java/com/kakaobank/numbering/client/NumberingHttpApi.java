@@ -0,0 +1,109 @@
+package com.kakaobank.numbering.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk endpoints of the numbering API over one shared {@link HttpClient}, which keeps
+ * connections alive between calls. Connection failures and 502/503/504 answers are retried
+ * with a linearly growing pause; anything else fails immediately.
+ */
+final class NumberingHttpApi {
+
+    static final int GUID_LENGTH = 30;
+    private static final Pattern RANGE_START = Pattern.compile("\"start\"\\s*:\\s*(\\d+)");
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    NumberingHttpApi(HttpClient httpClient, URI baseUri, Duration requestTimeout, int maxRetries,
+                     Duration retryBackoff) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Fetches {@code count} GUIDs from the binary stream endpoint (30-byte records).
+     */
+    String[] fetchGuids(int count) {
+        byte[] body = send("/api/v1/guid/stream?format=binary&count=" + count, HttpResponse.BodyHandlers.ofByteArray());
+        if (body.length != count * GUID_LENGTH) {
+            throw new NumberingClientException(
+                String.format("GUID stream ended early: expected %d bytes, got %d", count * GUID_LENGTH, body.length));
+        }
+        String[] guids = new String[count];
+        for (int i = 0; i < count; i++) {
+            guids[i] = new String(body, i * GUID_LENGTH, GUID_LENGTH, StandardCharsets.ISO_8859_1);
+        }
+        return guids;
+    }
+
+    /**
+     * Reserves {@code count} consecutive sequence values and returns the first one.
+     */
+    long fetchSequenceRange(int count) {
+        String body = send("/api/v1/sequence/batch?count=" + count, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = RANGE_START.matcher(body);
+        if (!matcher.find()) {
+            throw new NumberingClientException("Unexpected sequence batch response: " + body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private <T> T send(String pathAndQuery, HttpResponse.BodyHandler<T> bodyHandler) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+            .timeout(requestTimeout)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+        NumberingClientException failure = null;
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0) {
+                pause(retryBackoff.multipliedBy(attempt));
+            }
+            try {
+                HttpResponse<T> response = httpClient.send(request, bodyHandler);
+                int status = response.statusCode();
+                if (status == 200) {
+                    return response.body();
+                }
+                failure = new NumberingClientException(
+                    String.format("%s answered %d: %s", request.uri(), status, describe(response.body())));
+                if (status != 502 && status != 503 && status != 504) {
+                    throw failure;
+                }
+            } catch (IOException e) {
+                failure = new NumberingClientException("Request to " + request.uri() + " failed", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NumberingClientException("Interrupted while calling " + request.uri(), e);
+            }
+        }
+        throw failure;
+    }
+
+    private static String describe(Object body) {
+        return body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : String.valueOf(body);
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NumberingClientException("Interrupted while waiting to retry", e);
+        }
+    }
+}
\ No newline at end of file
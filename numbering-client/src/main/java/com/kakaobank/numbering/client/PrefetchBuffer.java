@@ -0,0 +1,146 @@
+package com.kakaobank.numbering.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stock of IDs refilled in the background.
+ * <p>
+ * Once the stock drops below the low watermark, one background refill fetches up to the high
+ * watermark. Taking an ID is a lock-free poll. Only a caller that finds the stock empty (a
+ * miss) waits for the refill, up to the miss timeout.
+ */
+public abstract class PrefetchBuffer {
+
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final int maxFetch;
+    private final Executor executor;
+    private final long missTimeoutNanos;
+    private final AtomicInteger available = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillFailures = new LongAdder();
+    private volatile CompletableFuture<Void> currentRefill = CompletableFuture.completedFuture(null);
+
+    PrefetchBuffer(int lowWatermark, int highWatermark, int maxFetch, Executor executor, Duration missTimeout) {
+        if (lowWatermark < 0 || highWatermark <= lowWatermark) {
+            throw new IllegalArgumentException(String.format(
+                "Watermarks must satisfy 0 <= low < high, got low=%d high=%d", lowWatermark, highWatermark));
+        }
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.maxFetch = maxFetch;
+        this.executor = executor;
+        this.missTimeoutNanos = missTimeout.toNanos();
+    }
+
+    /**
+     * IDs currently held locally.
+     */
+    public int getAvailable() {
+        return available.get();
+    }
+
+    /**
+     * Calls that found the buffer empty.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Completed fetches from the server.
+     */
+    public long getRefills() {
+        return refills.sum();
+    }
+
+    public long getRefillFailures() {
+        return refillFailures.sum();
+    }
+
+    /**
+     * Fetches {@code count} IDs into the buffer and returns how many were added.
+     */
+    abstract int fetch(int count);
+
+    /**
+     * Bookkeeping after an ID was taken.
+     */
+    final void taken() {
+        if (available.decrementAndGet() < lowWatermark) {
+            startRefill();
+        }
+    }
+
+    final void missed() {
+        misses.increment();
+        startRefill();
+    }
+
+    /**
+     * Waits for the refill after a miss. Returns the deadline to pass on the next call, which
+     * is set on the first one.
+     */
+    final long awaitRefill(long deadline) {
+        long now = System.nanoTime();
+        if (deadline == 0) {
+            misses.increment();
+            deadline = now + missTimeoutNanos;
+        } else if (now - deadline >= 0) {
+            throw new NumberingClientException("No IDs available after waiting " + Duration.ofNanos(missTimeoutNanos));
+        }
+        try {
+            startRefill().get(Math.max(deadline - now, 1), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new NumberingClientException("Refilling the ID buffer failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new NumberingClientException("No IDs available after waiting " + Duration.ofNanos(missTimeoutNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NumberingClientException("Interrupted while waiting for IDs", e);
+        }
+        return deadline;
+    }
+
+    final CompletableFuture<Void> startRefill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return currentRefill;
+        }
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        currentRefill = next;
+        try {
+            executor.execute(() -> refill(next));
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+            next.completeExceptionally(new NumberingClientException("Client is closed", e));
+        }
+        return next;
+    }
+
+    private void refill(CompletableFuture<Void> done) {
+        try {
+            int missing;
+            while ((missing = highWatermark - available.get()) > 0) {
+                available.addAndGet(fetch(Math.min(missing, maxFetch)));
+                refills.increment();
+            }
+            done.complete(null);
+        } catch (RuntimeException e) {
+            refillFailures.increment();
+            done.completeExceptionally(e);
+        } finally {
+            refilling.set(false);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.kakaobank.numbering.client;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequence values reserved ahead of time with {@code POST /api/v1/sequence/batch}.
+ * <p>
+ * Values are unique but, as with any client-side reservation, not ordered across clients,
+ * and values still buffered when the client closes are never issued.
+ */
+public final class SequenceBuffer extends PrefetchBuffer {
+
+    // Server-side batch limit (SequenceService.MAX_BATCH_SIZE)
+    private static final int MAX_FETCH = 1_000_000;
+    private static final long EMPTY = 0L;
+
+    private final NumberingHttpApi api;
+    private final Queue<Range> ranges = new ConcurrentLinkedQueue<>();
+
+    SequenceBuffer(NumberingHttpApi api, int lowWatermark, int highWatermark, Executor executor,
+                   Duration missTimeout) {
+        super(lowWatermark, highWatermark, MAX_FETCH, executor, missTimeout);
+        this.api = api;
+    }
+
+    /**
+     * Takes a value from the buffer. Only when the buffer is empty does this wait for the
+     * background refill, up to the miss timeout.
+     *
+     * @throws NumberingClientException if no value arrived in time or the refill failed
+     */
+    public long next() {
+        long deadline = 0;
+        while (true) {
+            long value = poll();
+            if (value != EMPTY) {
+                taken();
+                return value;
+            }
+            deadline = awaitRefill(deadline);
+        }
+    }
+
+    /**
+     * Takes a value without waiting, or returns 0 (never a valid sequence) when the buffer is empty.
+     */
+    public long tryNext() {
+        long value = poll();
+        if (value == EMPTY) {
+            missed();
+            return EMPTY;
+        }
+        taken();
+        return value;
+    }
+
+    @Override
+    int fetch(int count) {
+        long start = api.fetchSequenceRange(count);
+        ranges.add(new Range(start, start + count - 1));
+        return count;
+    }
+
+    private long poll() {
+        Range range;
+        while ((range = ranges.peek()) != null) {
+            long value = range.cursor.getAndIncrement();
+            if (value <= range.end) {
+                return value;
+            }
+            ranges.remove(range);
+        }
+        return EMPTY;
+    }
+
+    private static final class Range {
+        final AtomicLong cursor;
+        final long end;
+
+        Range(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
\ No newline at end of file
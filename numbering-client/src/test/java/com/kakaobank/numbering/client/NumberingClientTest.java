@@ -0,0 +1,144 @@
+package com.kakaobank.numbering.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NumberingClientTest {
+    
+    private final AtomicLong guidCounter = new AtomicLong();
+    private final AtomicLong sequenceCounter = new AtomicLong();
+    private final AtomicInteger failuresToSend = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private NumberingClient client;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/guid/stream", exchange -> {
+            if (rejected(exchange)) {
+                return;
+            }
+            int count = count(exchange);
+            StringBuilder body = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                body.append(String.format("%030d", guidCounter.incrementAndGet()));
+            }
+            respond(exchange, 200, body.toString());
+        });
+        server.createContext("/api/v1/sequence/batch", exchange -> {
+            if (rejected(exchange)) {
+                return;
+            }
+            int count = count(exchange);
+            long end = sequenceCounter.addAndGet(count);
+            respond(exchange, 200, String.format("{\"start\":%d,\"end\":%d}", end - count + 1, end));
+        });
+        server.start();
+        client = NumberingClient.builder(URI.create("http://localhost:" + server.getAddress().getPort()))
+            .lowWatermark(10)
+            .highWatermark(100)
+            .retries(2, Duration.ofMillis(1))
+            .missTimeout(Duration.ofSeconds(2))
+            .build();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+    
+    private boolean rejected(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        if (failuresToSend.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+            respond(exchange, 503, "{\"error\":\"Service temporarily unavailable\"}");
+            return true;
+        }
+        return false;
+    }
+    
+    private static int count(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getQuery();
+        return Integer.parseInt(query.replaceAll(".*count=(\\d+).*", "$1"));
+    }
+    
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    @Test
+    @DisplayName("버퍼에서 발급한 GUID는 모두 유일하고 서버 호출은 묶음 단위여야 한다")
+    void guids_should_be_unique_and_fetched_in_bulk() {
+        Set<String> guids = new HashSet<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            guids.add(client.guids().next());
+        }
+        
+        assertThat(guids).hasSize(1000);
+        assertThat(requests.get()).isLessThan(100);
+    }
+    
+    @Test
+    @DisplayName("Sequence 버퍼는 예약한 구간의 값을 중복 없이 발급해야 한다")
+    void sequences_should_be_unique() {
+        Set<Long> values = new HashSet<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            values.add(client.sequences().next());
+        }
+        
+        assertThat(values).hasSize(1000);
+        assertThat(values).allMatch(value -> value >= 1 && value <= sequenceCounter.get());
+    }
+    
+    @Test
+    @DisplayName("503 응답은 재시도 후 성공해야 한다")
+    void unavailable_response_should_be_retried() {
+        failuresToSend.set(2);
+        
+        assertThat(client.sequences().next()).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("재시도 횟수를 넘는 장애는 예외로 전달되고 미스가 기록되어야 한다")
+    void persistent_failure_should_surface_after_retries() {
+        failuresToSend.set(100);
+        
+        assertThatThrownBy(() -> client.guids().next())
+            .isInstanceOf(NumberingClientException.class);
+        assertThat(client.guids().getMisses()).isEqualTo(1);
+        assertThat(client.guids().getRefillFailures()).isPositive();
+    }
+    
+    @Test
+    @DisplayName("비어 있는 버퍼에서 tryNext는 기다리지 않고 null을 반환해야 한다")
+    void try_next_should_not_wait_on_empty_buffer() {
+        failuresToSend.set(100);
+        
+        assertThat(client.guids().tryNext()).isNull();
+        assertThat(client.guids().getMisses()).isEqualTo(1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.kakaobank.numbering.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.config.StreamProperties;
+import com.kakaobank.numbering.controller.IdResponseHttpMessageConverter;
+import com.kakaobank.numbering.controller.IdStreamWriter;
+import com.kakaobank.numbering.controller.NumberingController;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.NamespaceSequenceService;
+import com.kakaobank.numbering.service.NumericIdService;
+import com.kakaobank.numbering.service.SequenceIncrementScript;
+import com.kakaobank.numbering.service.SequenceService;
+import com.kakaobank.numbering.support.InMemoryRedisTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller call plus the write Spring MVC performs for the response body: through Jackson, and
+ * through {@link IdResponseHttpMessageConverter}, which Spring MVC picks for the ID responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ControllerSerializationBenchmark {
+    
+    private NumberingController controller;
+    private ObjectMapper objectMapper;
+    private IdResponseHttpMessageConverter converter;
+    private BufferedOutputMessage output;
+    
+    @Setup
+    public void setUp() {
+        InMemoryRedisTemplate redisTemplate = new InMemoryRedisTemplate();
+        GuidService guidService = new GuidService();
+        SequenceService sequenceService = new SequenceService(redisTemplate);
+        controller = new NumberingController(guidService, sequenceService, new NumericIdService(),
+            new NamespaceSequenceService(redisTemplate, new SequenceProperties(), NumberingMetrics.noop(),
+                new SequenceIncrementScript(redisTemplate)),
+            new IdStreamWriter(guidService, sequenceService, new StreamProperties()));
+        // Same builder Spring Boot uses for the MVC message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        converter = new IdResponseHttpMessageConverter();
+        output = new BufferedOutputMessage();
+    }
+    
+    @Benchmark
+    public byte[] guid() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(controller.generateGuid());
+    }
+    
+    @Benchmark
+    public byte[] sequence() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(controller.generateSequence());
+    }
+    
+    @Benchmark
+    public byte[] numericId() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(controller.generateNumericId());
+    }
+    
+    @Benchmark
+    public byte[] guidBatch() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(controller.generateGuidBatch(100));
+    }
+    
+    @Benchmark
+    public byte[] guidConverter() throws IOException {
+        return output.write(converter, controller.generateGuid(), MediaType.APPLICATION_JSON);
+    }
+    
+    @Benchmark
+    public byte[] sequenceConverter() throws IOException {
+        return output.write(converter, controller.generateSequence(), MediaType.APPLICATION_JSON);
+    }
+    
+    @Benchmark
+    public byte[] numericIdConverter() throws IOException {
+        return output.write(converter, controller.generateNumericId(), MediaType.APPLICATION_JSON);
+    }
+    
+    @Benchmark
+    public byte[] guidBatchConverter() throws IOException {
+        return output.write(converter, controller.generateGuidBatch(100), MediaType.APPLICATION_JSON);
+    }
+    
+    @Benchmark
+    public byte[] guidBatchConverterBinary() throws IOException {
+        return output.write(converter, controller.generateGuidBatch(100), MediaType.APPLICATION_OCTET_STREAM);
+    }
+    
+    /**
+     * Response stand-in that keeps the written body, reused across calls like a pooled buffer.
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        
+        byte[] write(IdResponseHttpMessageConverter converter, Object value, MediaType mediaType)
+                throws IOException {
+            headers.clear();
+            body.reset();
+            converter.write(value, mediaType, this);
+            return body.toByteArray();
+        }
+        
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+        
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.kakaobank.numbering.benchmark;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.service.SequenceService;
+import com.kakaobank.numbering.support.InMemoryRedisTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking request handling on Tomcat's default 200 platform threads versus one virtual
+ * thread per request, with each Redis call taking {@code redisLatencyMicros}.
+ * <p>
+ * One operation is a wave of {@code connections} concurrent requests; the sample-time
+ * percentiles of a wave bound the tail latency a client sees at that connection count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecutionModeBenchmark {
+    
+    private static final int TOMCAT_MAX_THREADS = 200;
+    
+    public enum Execution {
+        PLATFORM,
+        VIRTUAL
+    }
+    
+    @Param({"PLATFORM", "VIRTUAL"})
+    public Execution execution;
+    
+    @Param({"INCREMENT", "SEGMENT"})
+    public SequenceProperties.Mode mode;
+    
+    @Param({"1000", "10000"})
+    public int connections;
+    
+    @Param({"500"})
+    public long redisLatencyMicros;
+    
+    private ExecutorService executor;
+    private SequenceService sequenceService;
+    
+    @Setup
+    public void setUp() {
+        executor = execution == Execution.VIRTUAL
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        SequenceProperties properties = new SequenceProperties();
+        properties.setMode(mode);
+        sequenceService = new SequenceService(
+            new InMemoryRedisTemplate(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(redisLatencyMicros))), properties);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        sequenceService.shutdown();
+    }
+    
+    @Benchmark
+    public void concurrentRequests() {
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            requests[i] = CompletableFuture.supplyAsync(sequenceService::generateSequence, executor);
+        }
+        CompletableFuture.allOf(requests).join();
+    }
+}
\ No newline at end of file
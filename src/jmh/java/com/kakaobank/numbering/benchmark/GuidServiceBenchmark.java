@@ -0,0 +1,66 @@
+package com.kakaobank.numbering.benchmark;
+
+import com.kakaobank.numbering.audit.AuditLog;
+import com.kakaobank.numbering.config.GuidProperties;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.NodeIdentity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GUID throughput by thread count, with one shared counter and with striped counters.
+ * <p>
+ * A node issues at most 10000 GUIDs per millisecond whatever the stripe count, so once the
+ * threads together reach that rate the numbers flatten and the stripes only cut the CAS
+ * retries spent getting there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GuidServiceBenchmark {
+    
+    @Param({"1", "16"})
+    private int counterStripes;
+    
+    private GuidService guidService;
+    
+    @Setup
+    public void setUp() {
+        GuidProperties properties = new GuidProperties();
+        properties.setCounterStripes(counterStripes);
+        guidService = new GuidService(new NodeIdentity(), NumberingMetrics.noop(), AuditLog.disabled(), properties);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public String generateGuid_1thread() {
+        return guidService.generateGuid();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public String generateGuid_4threads() {
+        return guidService.generateGuid();
+    }
+    
+    @Benchmark
+    @Threads(16)
+    public String generateGuid_16threads() {
+        return guidService.generateGuid();
+    }
+    
+    @Benchmark
+    @Threads(64)
+    public String generateGuid_64threads() {
+        return guidService.generateGuid();
+    }
+}
\ No newline at end of file
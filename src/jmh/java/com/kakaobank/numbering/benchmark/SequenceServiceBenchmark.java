@@ -0,0 +1,57 @@
+package com.kakaobank.numbering.benchmark;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.service.SequenceService;
+import com.kakaobank.numbering.support.InMemoryRedisTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SequenceServiceBenchmark {
+    
+    @Param({"INCREMENT", "SEGMENT", "COALESCING"})
+    public SequenceProperties.Mode mode;
+    
+    private SequenceService sequenceService;
+    
+    @Setup
+    public void setUp() {
+        SequenceProperties properties = new SequenceProperties();
+        properties.setMode(mode);
+        sequenceService = new SequenceService(new InMemoryRedisTemplate(), properties);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        sequenceService.shutdown();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Long generateSequence_1thread() {
+        return sequenceService.generateSequence();
+    }
+    
+    @Benchmark
+    @Threads(16)
+    public Long generateSequence_16threads() {
+        return sequenceService.generateSequence();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public long generateSequenceRange_1thread() {
+        return sequenceService.generateSequenceRange(100);
+    }
+}
\ No newline at end of file
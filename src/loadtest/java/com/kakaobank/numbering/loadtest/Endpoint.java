@@ -0,0 +1,115 @@
+package com.kakaobank.numbering.loadtest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * NumberingController endpoints the load test can drive, with the IDs each response carries
+ * so duplicates can be counted.
+ */
+enum Endpoint {
+
+    GUID("/api/v1/guid", Pattern.compile("\"guid\":\"([^\"]+)\"")),
+    GUID_BATCH("/api/v1/guid/batch?count=%d", Pattern.compile("\"([^\"]{30})\"")),
+    SEQUENCE("/api/v1/sequence", Pattern.compile("\"value\":(\\d+)")),
+    SEQUENCE_BATCH("/api/v1/sequence/batch?count=%d", Pattern.compile("\"start\":(\\d+),\"end\":(\\d+)")),
+    NUMERIC_ID("/api/v1/id", Pattern.compile("\"id\":(\\d+)"));
+
+    private final String path;
+    private final Pattern ids;
+
+    Endpoint(String path, Pattern ids) {
+        this.path = path;
+        this.ids = ids;
+    }
+
+    static Endpoint of(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+
+    String path(int batchSize) {
+        return String.format(path, batchSize);
+    }
+
+    IdTracker newTracker() {
+        return this == SEQUENCE_BATCH ? new RangeTracker(ids) : new SetTracker(ids);
+    }
+
+    interface IdTracker {
+        void add(String body);
+
+        long duplicates();
+    }
+
+    private static final class SetTracker implements IdTracker {
+        private final Pattern ids;
+        private final Set<String> seen = ConcurrentHashMap.newKeySet();
+        private final LongAdder duplicates = new LongAdder();
+
+        SetTracker(Pattern ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public void add(String body) {
+            Matcher matcher = ids.matcher(body);
+            while (matcher.find()) {
+                if (!seen.add(matcher.group(1))) {
+                    duplicates.increment();
+                }
+            }
+        }
+
+        @Override
+        public long duplicates() {
+            return duplicates.sum();
+        }
+    }
+
+    /**
+     * Batch sequences arrive as [start, end] ranges; overlaps are counted once all are in.
+     */
+    private static final class RangeTracker implements IdTracker {
+        private final Pattern ids;
+        private final List<long[]> ranges = new ArrayList<>();
+
+        RangeTracker(Pattern ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public void add(String body) {
+            Matcher matcher = ids.matcher(body);
+            if (matcher.find()) {
+                long[] range = {Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2))};
+                synchronized (ranges) {
+                    ranges.add(range);
+                }
+            }
+        }
+
+        @Override
+        public long duplicates() {
+            List<long[]> sorted;
+            synchronized (ranges) {
+                sorted = new ArrayList<>(ranges);
+            }
+            sorted.sort(Comparator.comparingLong(range -> range[0]));
+            long duplicates = 0;
+            long highest = Long.MIN_VALUE;
+            for (long[] range : sorted) {
+                if (range[0] <= highest) {
+                    duplicates += Math.min(highest, range[1]) - range[0] + 1;
+                }
+                highest = Math.max(highest, range[1]);
+            }
+            return duplicates;
+        }
+    }
+}
\ No newline at end of file
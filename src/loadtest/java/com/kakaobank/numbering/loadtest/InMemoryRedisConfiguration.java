@@ -0,0 +1,21 @@
+package com.kakaobank.numbering.loadtest;
+
+import com.kakaobank.numbering.support.InMemoryRedisTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Replaces the Redis-backed template so the load test needs no Redis server. The services
+ * still run their real code paths; only the commands themselves are answered in memory.
+ */
+@Configuration
+class InMemoryRedisConfiguration {
+
+    @Bean
+    @Primary
+    RedisTemplate<String, String> inMemoryRedisTemplate() {
+        return new InMemoryRedisTemplate();
+    }
+}
\ No newline at end of file
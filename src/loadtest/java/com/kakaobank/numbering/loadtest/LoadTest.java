@@ -0,0 +1,243 @@
+package com.kakaobank.numbering.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kakaobank.numbering.NumberingApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts the application on a random port against an in-memory Redis and drives the chosen
+ * endpoints with concurrent HTTP clients, one virtual thread per client.
+ * <p>
+ * Options are system properties, passed through Gradle as {@code -Ploadtest.<name>=<value>}:
+ * <ul>
+ *   <li>{@code endpoints}: comma-separated, from guid, guid-batch, sequence, sequence-batch, numeric-id (guid,sequence)</li>
+ *   <li>{@code clients}: concurrent clients (64)</li>
+ *   <li>{@code duration}, {@code warmup}: seconds measured and discarded before it (30, 5)</li>
+ *   <li>{@code mode}: closed (each client sends its next request on the response) or open (fixed rate)</li>
+ *   <li>{@code rate}: total requests per second in open mode, spread over the clients (10000)</li>
+ *   <li>{@code batchSize}: count for the batch endpoints (100)</li>
+ *   <li>{@code sequenceMode}: numbering.sequence.mode of the started app (increment)</li>
+ *   <li>{@code outputDir}: where the JSON summary and the .hgrm percentile files are written</li>
+ * </ul>
+ * In open mode latency is measured from the time a request was due, not from when it was sent,
+ * so a stalled server shows up in the percentiles instead of being hidden by the clients backing off.
+ */
+public final class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final List<Endpoint> endpoints;
+    private final int clients;
+    private final Duration duration;
+    private final Duration warmup;
+    private final boolean openLoop;
+    private final int rate;
+    private final int batchSize;
+    private final String sequenceMode;
+    private final Path outputDir;
+
+    private LoadTest() {
+        this.endpoints = Arrays.stream(option("endpoints", "guid,sequence").split(","))
+            .map(Endpoint::of)
+            .toList();
+        this.clients = Integer.parseInt(option("clients", "64"));
+        this.duration = Duration.ofSeconds(Long.parseLong(option("duration", "30")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(option("warmup", "5")));
+        this.openLoop = "open".equalsIgnoreCase(option("mode", "closed"));
+        this.rate = Integer.parseInt(option("rate", "10000"));
+        this.batchSize = Integer.parseInt(option("batchSize", "100"));
+        this.sequenceMode = option("sequenceMode", "increment");
+        this.outputDir = Paths.get(option("outputDir", "build/reports/loadtest"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run();
+    }
+
+    private void run() throws Exception {
+        SpringApplication application = new SpringApplication(NumberingApplication.class, InMemoryRedisConfiguration.class);
+        // Arguments rather than default properties, which application.yml would override
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--management.health.redis.enabled=false",
+                "--numbering.numeric-id.node-id=0",
+                "--numbering.sequence.mode=" + sequenceMode)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Files.createDirectories(outputDir);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("clients", clients);
+            summary.put("mode", openLoop ? "open" : "closed");
+            if (openLoop) {
+                summary.put("rate", rate);
+            }
+            summary.put("durationSeconds", duration.toSeconds());
+            summary.put("sequenceMode", sequenceMode);
+            for (Endpoint endpoint : endpoints) {
+                summary.put(endpoint.name().toLowerCase(), drive(endpoint, URI.create(
+                    "http://localhost:" + port + endpoint.path(batchSize))));
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(outputDir.resolve("summary.json").toFile(), summary);
+            System.out.println("Reports written to " + outputDir.toAbsolutePath());
+        }
+    }
+
+    private Map<String, Object> drive(Endpoint endpoint, URI uri) throws InterruptedException {
+        Endpoint.IdTracker tracker = endpoint.newTracker();
+        List<Worker> workers = new ArrayList<>(clients);
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .timeout(Duration.ofSeconds(30))
+            .build();
+
+        long startNanos = System.nanoTime();
+        long measureFrom = startNanos + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        // Each open-loop client owns an equal share of the rate, offset so sends interleave
+        long intervalNanos = openLoop ? TimeUnit.SECONDS.toNanos(1) * clients / Math.max(rate, 1) : 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Worker worker = new Worker(httpClient, request, tracker, measureFrom, measureUntil,
+                    intervalNanos, startNanos + intervalNanos * i / clients);
+                workers.add(worker);
+                executor.execute(worker);
+            }
+        }
+
+        Histogram latency = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        long errors = 0;
+        for (Worker worker : workers) {
+            latency.add(worker.latency);
+            errors += worker.errors;
+        }
+        return report(endpoint, latency, errors, tracker.duplicates());
+    }
+
+    private Map<String, Object> report(Endpoint endpoint, Histogram latency, long errors, long duplicates) {
+        long requests = latency.getTotalCount();
+        double throughput = requests / (double) duration.toSeconds();
+        double errorRate = requests == 0 ? 0 : errors / (double) requests;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", requests);
+        result.put("throughput", Math.round(throughput));
+        result.put("p50Micros", micros(latency.getValueAtPercentile(50)));
+        result.put("p99Micros", micros(latency.getValueAtPercentile(99)));
+        result.put("p999Micros", micros(latency.getValueAtPercentile(99.9)));
+        result.put("maxMicros", micros(latency.getMaxValue()));
+        result.put("errors", errors);
+        result.put("errorRate", errorRate);
+        result.put("duplicates", duplicates);
+
+        System.out.printf("%-15s %10.0f req/s  p50 %8.1f us  p99 %8.1f us  p99.9 %8.1f us  max %9.1f us"
+                + "  errors %d (%.4f%%)  duplicates %d%n",
+            endpoint.name().toLowerCase(), throughput, micros(latency.getValueAtPercentile(50)),
+            micros(latency.getValueAtPercentile(99)), micros(latency.getValueAtPercentile(99.9)),
+            micros(latency.getMaxValue()), errors, errorRate * 100, duplicates);
+
+        Path distribution = outputDir.resolve(endpoint.name().toLowerCase() + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+            // Scaled to microseconds, loadable by the HdrHistogram plotter
+            latency.outputPercentileDistribution(out, 1000.0);
+        } catch (IOException e) {
+            System.err.println("Unable to write " + distribution + ": " + e.getMessage());
+        }
+        return result;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private static String option(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static final class Worker implements Runnable {
+        final HttpClient httpClient;
+        final HttpRequest request;
+        final Endpoint.IdTracker tracker;
+        final long measureFrom;
+        final long measureUntil;
+        final long intervalNanos;
+        final Histogram latency = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        long nextSend;
+        long errors;
+
+        Worker(HttpClient httpClient, HttpRequest request, Endpoint.IdTracker tracker,
+               long measureFrom, long measureUntil, long intervalNanos, long firstSend) {
+            this.httpClient = httpClient;
+            this.request = request;
+            this.tracker = tracker;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            this.intervalNanos = intervalNanos;
+            this.nextSend = firstSend;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                long due = System.nanoTime();
+                if (intervalNanos > 0) {
+                    due = nextSend;
+                    nextSend += intervalNanos;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                if (due >= measureUntil) {
+                    return;
+                }
+                boolean failed;
+                try {
+                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    failed = response.statusCode() != 200;
+                    if (!failed) {
+                        tracker.add(response.body());
+                    }
+                } catch (IOException e) {
+                    failed = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (due >= measureFrom) {
+                    latency.recordValue(Math.min(System.nanoTime() - due, HIGHEST_TRACKABLE_NANOS));
+                    if (failed) {
+                        errors++;
+                    }
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
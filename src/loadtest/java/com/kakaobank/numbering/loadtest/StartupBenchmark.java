@@ -0,0 +1,205 @@
+package com.kakaobank.numbering.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the application as a fresh process again and again and measures how long a new node
+ * takes to serve its first IDs, the way an autoscaled pod is brought into service: traffic is
+ * sent once /actuator/health/readiness reports UP.
+ * <p>
+ * Variants, chosen with {@code -Pstartup.variants}:
+ * <ul>
+ *   <li>{@code baseline}: the regular jar with the startup warmup turned off</li>
+ *   <li>{@code warmup}: the regular jar</li>
+ *   <li>{@code fast}: the fast-startup build, with AOT bean definitions and its AppCDS archive</li>
+ * </ul>
+ * Each run records the time from process start to readiness, to the first GUID and to the first
+ * sequence, and the latency of those two first requests. Other options: {@code runs} per variant
+ * (5), {@code timeoutSeconds} per run (120) and {@code outputDir}, which receives the JSON summary
+ * and one log file per run. Sequences need a reachable Redis (SPRING_REDIS_HOST, localhost by
+ * default); without one they are reported as failures and the GUID numbers still hold.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+    private final List<String> variants;
+    private final int runs;
+    private final Duration timeout;
+    private final String java;
+    private final Path defaultJar;
+    private final Path fastDir;
+    private final Path outputDir;
+
+    private StartupBenchmark() {
+        this.variants = Arrays.asList(option("variants", "baseline,warmup,fast").split(","));
+        this.runs = Integer.parseInt(option("runs", "5"));
+        this.timeout = Duration.ofSeconds(Long.parseLong(option("timeoutSeconds", "120")));
+        this.java = option("java", Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        this.defaultJar = Paths.get(option("defaultJar", "build/libs/numbering-api.jar")).toAbsolutePath();
+        this.fastDir = Paths.get(option("fastDir", "build/fast-startup")).toAbsolutePath();
+        this.outputDir = Paths.get(option("outputDir", "build/reports/startup"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupBenchmark().run();
+    }
+
+    private void run() throws Exception {
+        Files.createDirectories(outputDir);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("runs", runs);
+        for (String variant : variants) {
+            List<Map<String, Long>> results = new ArrayList<>(runs);
+            for (int i = 0; i < runs; i++) {
+                results.add(measure(variant, i));
+            }
+            summary.put(variant, report(variant, results));
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(outputDir.resolve("summary.json").toFile(), summary);
+        System.out.println("Reports written to " + outputDir.toAbsolutePath());
+    }
+
+    private Map<String, Long> measure(String variant, int run) throws IOException, InterruptedException {
+        int port = freePort();
+        ProcessBuilder builder = new ProcessBuilder(command(variant, port))
+            .redirectErrorStream(true)
+            .redirectOutput(outputDir.resolve(variant + "-" + run + ".log").toFile());
+        if ("fast".equals(variant)) {
+            // The archive records the class path relative to this directory
+            builder.directory(fastDir.toFile());
+        }
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String base = "http://localhost:" + port;
+
+        long startNanos = System.nanoTime();
+        Process process = builder.start();
+        try {
+            Map<String, Long> result = new LinkedHashMap<>();
+            awaitReady(httpClient, URI.create(base + "/actuator/health/readiness"), startNanos, process);
+            result.put("readyMillis", millisSince(startNanos));
+            firstRequest(httpClient, URI.create(base + "/api/v1/guid"), startNanos, "Guid", result);
+            firstRequest(httpClient, URI.create(base + "/api/v1/sequence"), startNanos, "Sequence", result);
+            System.out.printf("%-8s run %d  ready %6d ms  first GUID %6d ms (%6d us)  first sequence %6d ms (%6d us)%n",
+                variant, run, result.get("readyMillis"), result.get("firstGuidMillis"),
+                result.get("firstGuidLatencyMicros"), result.get("firstSequenceMillis"),
+                result.get("firstSequenceLatencyMicros"));
+            return result;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> command(String variant, int port) {
+        List<String> command = new ArrayList<>(List.of(java));
+        switch (variant) {
+            case "baseline":
+                command.addAll(List.of("-jar", defaultJar.toString(), "--numbering.warmup.enabled=false"));
+                break;
+            case "warmup":
+                command.addAll(List.of("-jar", defaultJar.toString()));
+                break;
+            case "fast":
+                command.addAll(List.of("-XX:SharedArchiveFile=numbering-api.jsa", "-Dspring.aot.enabled=true",
+                    "-jar", "numbering-api.jar"));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown startup variant: " + variant);
+        }
+        command.add("--server.port=" + port);
+        return command;
+    }
+
+    private void awaitReady(HttpClient httpClient, URI uri, long startNanos, Process process)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().timeout(Duration.ofSeconds(5)).build();
+        while (System.nanoTime() - startNanos < timeout.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + process.exitValue());
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Application not ready within " + timeout);
+    }
+
+    private static void firstRequest(HttpClient httpClient, URI uri, long startNanos, String name,
+                                     Map<String, Long> result) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .timeout(Duration.ofSeconds(30))
+            .build();
+        long sentNanos = System.nanoTime();
+        boolean ok;
+        try {
+            ok = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            ok = false;
+        }
+        // -1 marks a failed first request, typically a sequence without Redis
+        result.put("first" + name + "Millis", ok ? millisSince(startNanos) : -1L);
+        result.put("first" + name + "LatencyMicros", ok ? (System.nanoTime() - sentNanos) / 1000 : -1L);
+    }
+
+    private static Map<String, Object> report(String variant, List<Map<String, Long>> results) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (String metric : results.get(0).keySet()) {
+            long[] values = results.stream().mapToLong(result -> result.get(metric)).sorted().toArray();
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("median", values[values.length / 2]);
+            stats.put("min", values[0]);
+            stats.put("max", values[values.length - 1]);
+            report.put(metric, stats);
+        }
+        report.put("runs", results);
+        System.out.printf("%-8s median  ready %6d ms  first GUID %6d ms  first sequence %6d ms%n", variant,
+            median(report, "readyMillis"), median(report, "firstGuidMillis"), median(report, "firstSequenceMillis"));
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long median(Map<String, Object> report, String metric) {
+        return ((Map<String, Long>) report.get(metric)).get("median");
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String option(String name, String defaultValue) {
+        return System.getProperty("startup." + name, defaultValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,299 @@
+package com.kakaobank.numbering.audit;
+
+import com.kakaobank.numbering.config.AuditProperties;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Sampled audit trail of issued IDs, written off the request path.
+ * <p>
+ * Request threads claim a slot in a preallocated ring with one CAS, copy the call into it and
+ * publish it; nothing is allocated and nothing blocks. When the ring is full the record is
+ * dropped and counted rather than slowing issuance down. A single writer thread drains the
+ * ring into a memory-mapped segment file, so a record survives a process crash once written.
+ * Segments are preallocated, rotated when full or when {@code rotate-interval} passes, and
+ * pruned to {@code max-segments}. {@link AuditLogReader} replays them offline.
+ */
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Wait before retrying a failed rotation, so a full disk is not retried for every record
+    private static final long ROTATION_RETRY_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    private final AuditProperties properties;
+    private final NumberingMetrics metrics;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final Entry[] ring;
+    private final int mask;
+    // Next slot to claim; only advanced by CAS
+    private final AtomicLong claimed = new AtomicLong();
+    // Next slot the writer drains; only written by the writer thread
+    private volatile long drained;
+    private volatile boolean running;
+    private Thread writer;
+    private Path directory;
+    private MappedByteBuffer segment;
+    private int position;
+    private long rotateAt;
+    // No rotation is attempted before this after one failed
+    private long rotationRetryAt;
+    private long segmentMillis;
+
+    @Autowired
+    public AuditLog(AuditProperties properties, NumberingMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.enabled = properties.isEnabled() && properties.getSampleRate() > 0;
+        this.sampleRate = properties.getSampleRate();
+        int size = enabled ? Integer.highestOneBit(Math.max(properties.getRingSize(), 2) - 1) << 1 : 1;
+        this.ring = new Entry[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Entry(i - size);
+        }
+    }
+
+    /**
+     * An audit log that records nothing, for services constructed outside the Spring context.
+     */
+    public static AuditLog disabled() {
+        return new AuditLog(new AuditProperties(), NumberingMetrics.noop());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        directory = Paths.get(properties.getDirectory());
+        rotate(System.currentTimeMillis());
+        running = true;
+        writer = new Thread(this::drainLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("AuditLog started - Directory: {}, SampleRate: {}, RingSize: {}",
+            directory.toAbsolutePath(), sampleRate, ring.length);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.force();
+    }
+
+    public void guid(String guid) {
+        guids(guid, 1);
+    }
+
+    /**
+     * Records a batch of {@code count} consecutive GUIDs by its first one.
+     */
+    public void guids(String first, int count) {
+        if (sampled()) {
+            publish(AuditRecord.Type.GUID, first, count, count);
+        }
+    }
+
+    public void sequence(long value) {
+        sequences(value, value);
+    }
+
+    public void sequences(long start, long end) {
+        if (sampled()) {
+            publish(AuditRecord.Type.SEQUENCE, null, start, end);
+        }
+    }
+
+    public void namespaceSequence(String namespace, long value) {
+        if (sampled()) {
+            publish(AuditRecord.Type.NAMESPACE_SEQUENCE, namespace, value, value);
+        }
+    }
+
+    public void numericId(long id) {
+        if (sampled()) {
+            publish(AuditRecord.Type.NUMERIC_ID, null, id, id);
+        }
+    }
+
+    private boolean sampled() {
+        return enabled && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void publish(AuditRecord.Type type, String text, long first, long last) {
+        long slot;
+        do {
+            slot = claimed.get();
+            if (slot - drained >= ring.length) {
+                metrics.auditDropped();
+                return;
+            }
+        } while (!claimed.compareAndSet(slot, slot + 1));
+
+        Entry entry = ring[(int) slot & mask];
+        entry.timestampMillis = System.currentTimeMillis();
+        entry.type = type;
+        entry.text = text;
+        entry.first = first;
+        entry.last = last;
+        // Volatile write: the fields above become visible to the writer with it
+        entry.published = slot;
+    }
+
+    private void drainLoop() {
+        while (running || claimed.get() != drained) {
+            long next = drained;
+            Entry entry = ring[(int) next & mask];
+            if (entry.published != next) {
+                // Empty, or the claiming thread is still copying; records are written in slot order
+                if (running) {
+                    rotateWhileIdle(System.currentTimeMillis());
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                if (claimed.get() == next) {
+                    break;
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                append(entry);
+            } catch (RuntimeException e) {
+                log.error("Audit record could not be written", e);
+            }
+            entry.text = null;
+            drained = next + 1;
+        }
+    }
+
+    private void append(Entry entry) {
+        long now = entry.timestampMillis;
+        if (position + AuditRecord.SIZE > segment.capacity() || rotationDue(now)) {
+            tryRotate(now);
+        }
+        if (position + AuditRecord.SIZE > segment.capacity()) {
+            // Full and not rotated: there is nowhere to write the record
+            metrics.auditDropped();
+            return;
+        }
+        AuditRecord.write(segment, position, entry.timestampMillis, entry.type, entry.text, entry.first, entry.last);
+        position += AuditRecord.SIZE;
+    }
+
+    private void rotateWhileIdle(long now) {
+        if (rotationDue(now)) {
+            tryRotate(now);
+        }
+    }
+
+    private boolean rotationDue(long now) {
+        return now >= rotateAt && position > AuditRecord.HEADER_SIZE;
+    }
+
+    private void tryRotate(long now) {
+        if (now < rotationRetryAt) {
+            return;
+        }
+        try {
+            rotate(now);
+        } catch (RuntimeException e) {
+            // The writer must outlive a failed rotation; records keep going to the current segment
+            log.error("Audit segment could not be rotated", e);
+            rotationRetryAt = now + ROTATION_RETRY_MILLIS;
+        }
+    }
+
+    private void rotate(long now) {
+        if (segment != null) {
+            segment.force();
+        }
+        // Segment names sort by start time; a segment filled within a millisecond takes the next one
+        segmentMillis = Math.max(now, segmentMillis + 1);
+        Path path = directory.resolve(String.format("%s%013d%s", SEGMENT_PREFIX, segmentMillis, SEGMENT_SUFFIX));
+        long size = AuditRecord.HEADER_SIZE + (long) properties.getSegmentRecords() * AuditRecord.SIZE;
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The mapping stays valid after the channel is closed
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create audit segment: " + path, e);
+        }
+        AuditRecord.writeHeader(segment, now);
+        position = AuditRecord.HEADER_SIZE;
+        rotateAt = now + properties.getRotateInterval().toMillis();
+        prune();
+    }
+
+    private void prune() {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(AuditLog::isSegment).sorted().toList();
+        } catch (IOException e) {
+            log.warn("Could not list audit segments in {}", directory, e);
+            return;
+        }
+        for (int i = 0; i < segments.size() - Math.max(properties.getMaxSegments(), 1); i++) {
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {
+                log.warn("Could not delete audit segment {}", segments.get(i), e);
+            }
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static final class Entry {
+        // Slot number of the record currently held; starts one lap behind
+        volatile long published;
+        long timestampMillis;
+        AuditRecord.Type type;
+        String text;
+        long first;
+        long last;
+
+        Entry(long published) {
+            this.published = published;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.kakaobank.numbering.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Replays audit segments offline. Run against a segment file or the audit directory:
+ * <pre>
+ * java -cp numbering.jar -Dloader.main=com.kakaobank.numbering.audit.AuditLogReader \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher data/audit
+ * </pre>
+ * Prints one line per record, oldest segment first.
+ */
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: AuditLogReader <segment file or audit directory>");
+            System.exit(2);
+        }
+        long records = replay(Paths.get(args[0]), System.out::println);
+        System.err.println(records + " records");
+    }
+
+    /**
+     * Passes every record of the segment, or of all segments in the directory in start-time
+     * order, to {@code consumer} and returns the number of records read.
+     */
+    public static long replay(Path path, Consumer<AuditRecord> consumer) {
+        long records = 0;
+        for (Path segment : segments(path)) {
+            records += replaySegment(segment, consumer);
+        }
+        return records;
+    }
+
+    private static List<Path> segments(Path path) {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(AuditLog::isSegment).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to list audit segments in " + path, e);
+        }
+    }
+
+    private static long replaySegment(Path segment, Consumer<AuditRecord> consumer) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!AuditRecord.hasHeader(buffer)) {
+                throw new IllegalArgumentException("Not an audit segment: " + segment);
+            }
+            long records = 0;
+            AuditRecord record;
+            for (int offset = AuditRecord.HEADER_SIZE;
+                 (record = AuditRecord.read(buffer, offset)) != null;
+                 offset += AuditRecord.SIZE) {
+                consumer.accept(record);
+                records++;
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read audit segment " + segment, e);
+        }
+    }
+}
\ No newline at end of file
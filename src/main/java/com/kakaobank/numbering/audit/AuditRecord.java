@@ -0,0 +1,154 @@
+package com.kakaobank.numbering.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * One issuance call as stored in an audit segment.
+ * <p>
+ * A segment starts with a 64-byte header ({@link #MAGIC}, version, record size, start time)
+ * followed by fixed 64-byte records, big-endian:
+ * <pre>
+ * [epoch millis: 8][type: 1][text length: 1][unused: 6][first: 8][last: 8][text: 32]
+ * </pre>
+ * A GUID record holds the first GUID of a run of consecutive GUIDs as text and the run length
+ * as {@code first}; a batch reserved in parts has one record per run. Sequence records hold
+ * the issued range, with the namespace as text for namespace sequences. The first record
+ * whose type byte is 0 ends the segment.
+ */
+public final class AuditRecord {
+
+    public enum Type {
+        GUID(1),
+        SEQUENCE(2),
+        NAMESPACE_SEQUENCE(3),
+        NUMERIC_ID(4);
+
+        final byte code;
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        static Type of(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    static final long MAGIC = 0x4e554d4155445431L;
+    static final int VERSION = 1;
+    static final int SIZE = 64;
+    static final int HEADER_SIZE = SIZE;
+    private static final int TEXT_OFFSET = 32;
+    private static final int MAX_TEXT_LENGTH = SIZE - TEXT_OFFSET;
+
+    private final long timestampMillis;
+    private final Type type;
+    private final String text;
+    private final long first;
+    private final long last;
+
+    AuditRecord(long timestampMillis, Type type, String text, long first, long last) {
+        this.timestampMillis = timestampMillis;
+        this.type = type;
+        this.text = text;
+        this.first = first;
+        this.last = last;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * First GUID of a GUID record, namespace of a namespace sequence, otherwise null.
+     */
+    public String getText() {
+        return text;
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public long getLast() {
+        return last;
+    }
+
+    @Override
+    public String toString() {
+        String time = Instant.ofEpochMilli(timestampMillis).toString();
+        switch (type) {
+            case GUID:
+                return time + " GUID " + text + (first > 1 ? " x" + first : "");
+            case NAMESPACE_SEQUENCE:
+                return time + " SEQUENCE " + text + " " + range();
+            default:
+                return time + " " + type + " " + range();
+        }
+    }
+
+    private String range() {
+        return first == last ? Long.toString(first) : first + ".." + last;
+    }
+
+    static void writeHeader(ByteBuffer buffer, long startMillis) {
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(8, VERSION);
+        buffer.putInt(12, SIZE);
+        buffer.putLong(16, startMillis);
+    }
+
+    static boolean hasHeader(ByteBuffer buffer) {
+        return buffer.capacity() >= HEADER_SIZE && buffer.getLong(0) == MAGIC && buffer.getInt(12) == SIZE;
+    }
+
+    /**
+     * Writes a record at {@code offset} without allocating; only ASCII text is expected.
+     */
+    static void write(ByteBuffer buffer, int offset, long timestampMillis, Type type, String text,
+                      long first, long last) {
+        int length = text != null ? Math.min(text.length(), MAX_TEXT_LENGTH) : 0;
+        buffer.putLong(offset, timestampMillis);
+        buffer.put(offset + 9, (byte) length);
+        buffer.putLong(offset + 16, first);
+        buffer.putLong(offset + 24, last);
+        for (int i = 0; i < length; i++) {
+            buffer.put(offset + TEXT_OFFSET + i, (byte) text.charAt(i));
+        }
+        // Written last so a reader of a crashed segment never sees a half-written record as valid
+        buffer.put(offset + 8, type.code);
+    }
+
+    /**
+     * Reads the record at {@code offset}, or returns null at the end of the segment.
+     */
+    static AuditRecord read(ByteBuffer buffer, int offset) {
+        if (offset + SIZE > buffer.capacity()) {
+            return null;
+        }
+        Type type = Type.of(buffer.get(offset + 8));
+        if (type == null) {
+            return null;
+        }
+        int length = buffer.get(offset + 9);
+        String text = null;
+        if (length > 0) {
+            byte[] bytes = new byte[length];
+            buffer.get(offset + TEXT_OFFSET, bytes);
+            text = new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        return new AuditRecord(buffer.getLong(offset), type, text, buffer.getLong(offset + 16),
+            buffer.getLong(offset + 24));
+    }
+}
\ No newline at end of file
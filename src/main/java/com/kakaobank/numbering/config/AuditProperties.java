@@ -0,0 +1,78 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "numbering.audit")
+public class AuditProperties {
+
+    // Record issued IDs and ranges in memory-mapped segment files
+    private boolean enabled = false;
+    private String directory = "data/audit";
+    // Fraction of issuance calls recorded; a batch or range is one call
+    private double sampleRate = 1.0;
+    // Records buffered between request threads and the writer, rounded up to a power of two
+    private int ringSize = 65_536;
+    // Segment files are preallocated to this many 64-byte records
+    private int segmentRecords = 1_048_576;
+    // A new segment is started at least this often
+    private Duration rotateInterval = Duration.ofHours(1);
+    // Oldest segments beyond this count are deleted
+    private int maxSegments = 48;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getRingSize() {
+        return ringSize;
+    }
+
+    public void setRingSize(int ringSize) {
+        this.ringSize = ringSize;
+    }
+
+    public int getSegmentRecords() {
+        return segmentRecords;
+    }
+
+    public void setSegmentRecords(int segmentRecords) {
+        this.segmentRecords = segmentRecords;
+    }
+
+    public Duration getRotateInterval() {
+        return rotateInterval;
+    }
+
+    public void setRotateInterval(Duration rotateInterval) {
+        this.rotateInterval = rotateInterval;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    public void setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "numbering.guid")
+public class GuidProperties {
+
+    // Counters the 4-digit GUID counter is split into, each owning its own range of values;
+    // 1 keeps a single shared counter. Must divide 10000 into ranges of at least 128.
+    private int counterStripes = 1;
+
+    public int getCounterStripes() {
+        return counterStripes;
+    }
+
+    public void setCounterStripes(int counterStripes) {
+        this.counterStripes = counterStripes;
+    }
+}
\ No newline at end of file
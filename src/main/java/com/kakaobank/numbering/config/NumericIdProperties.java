@@ -0,0 +1,28 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "numbering.numeric-id")
+public class NumericIdProperties {
+
+    // Node field of the 64-bit IDs, 0-1023; must be unique per node. Not needed with the worker ID lease.
+    private Integer nodeId;
+    // Fall back to a hash of ServerId and ProcessId; nodes then collide with some probability
+    private boolean allowDerivedNodeId = false;
+
+    public Integer getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(Integer nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public boolean isAllowDerivedNodeId() {
+        return allowDerivedNodeId;
+    }
+
+    public void setAllowDerivedNodeId(boolean allowDerivedNodeId) {
+        this.allowDerivedNodeId = allowDerivedNodeId;
+    }
+}
\ No newline at end of file
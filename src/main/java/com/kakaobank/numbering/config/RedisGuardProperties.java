@@ -0,0 +1,114 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "numbering.redis-guard")
+public class RedisGuardProperties {
+
+    // Circuit breaker and concurrency limit around the sequence Redis calls
+    private boolean enabled = true;
+    // Calls per evaluation window of the closed circuit
+    private int windowSize = 50;
+    // Share of failed or slow calls in a window that opens the circuit
+    private double failureRateThreshold = 0.5;
+    // Calls slower than this count as failures
+    private Duration slowCallThreshold = Duration.ofMillis(500);
+    // How long an open circuit rejects calls before letting probes through
+    private Duration openDuration = Duration.ofSeconds(5);
+    // Probe calls of a half-open circuit; all must succeed to close it
+    private int halfOpenProbes = 3;
+    private final Concurrency concurrency = new Concurrency();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public Duration getSlowCallThreshold() {
+        return slowCallThreshold;
+    }
+
+    public void setSlowCallThreshold(Duration slowCallThreshold) {
+        this.slowCallThreshold = slowCallThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public static class Concurrency {
+        private int initialLimit = 64;
+        private int minLimit = 4;
+        private int maxLimit = 512;
+        // Recent latency may reach this multiple of the long-term latency before the limit shrinks
+        private double tolerance = 2.0;
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+    }
+}
\ No newline at end of file
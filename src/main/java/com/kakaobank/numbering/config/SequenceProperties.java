@@ -0,0 +1,319 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "numbering.sequence")
+public class SequenceProperties {
+
+    public enum Mode {
+        // One Redis INCR per issued value
+        INCREMENT,
+        // Values handed out locally from ranges leased with INCRBY
+        SEGMENT,
+        // Concurrent requests grouped into one INCRBY, each caller gets its slice
+        COALESCING
+    }
+
+    public enum ShardRouting {
+        // Each request thread sticks to one shard key
+        THREAD,
+        // Every request of this node goes to the same shard key
+        NODE
+    }
+
+    public enum ResetPeriod {
+        DAILY,
+        MONTHLY,
+        NEVER
+    }
+
+    private Mode mode = Mode.INCREMENT;
+    private final Segment segment = new Segment();
+    private final Coalescing coalescing = new Coalescing();
+    private final Journal journal = new Journal();
+    private final Sharding sharding = new Sharding();
+    private final Current current = new Current();
+    private Map<String, Namespace> namespaces = new LinkedHashMap<>();
+    // Serve names that are not declared under namespaces, using the Namespace defaults
+    private boolean allowUndeclaredNamespaces = false;
+    // Upper bound on namespaces whose key and local range are kept in memory
+    private int namespaceCacheSize = 1_024;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Segment getSegment() {
+        return segment;
+    }
+
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public Sharding getSharding() {
+        return sharding;
+    }
+
+    public Current getCurrent() {
+        return current;
+    }
+
+    public Map<String, Namespace> getNamespaces() {
+        return namespaces;
+    }
+
+    public void setNamespaces(Map<String, Namespace> namespaces) {
+        this.namespaces = namespaces;
+    }
+
+    public boolean isAllowUndeclaredNamespaces() {
+        return allowUndeclaredNamespaces;
+    }
+
+    public void setAllowUndeclaredNamespaces(boolean allowUndeclaredNamespaces) {
+        this.allowUndeclaredNamespaces = allowUndeclaredNamespaces;
+    }
+
+    public int getNamespaceCacheSize() {
+        return namespaceCacheSize;
+    }
+
+    public void setNamespaceCacheSize(int namespaceCacheSize) {
+        this.namespaceCacheSize = namespaceCacheSize;
+    }
+
+    public static class Segment {
+        private long initialStep = 1_000;
+        private long minStep = 100;
+        private long maxStep = 100_000;
+        // Fraction of a segment consumed before the next one is fetched
+        private double prefetchRatio = 0.2;
+        // How long one segment should last at the observed request rate
+        private Duration targetRefillInterval = Duration.ofSeconds(10);
+
+        public long getInitialStep() {
+            return initialStep;
+        }
+
+        public void setInitialStep(long initialStep) {
+            this.initialStep = initialStep;
+        }
+
+        public long getMinStep() {
+            return minStep;
+        }
+
+        public void setMinStep(long minStep) {
+            this.minStep = minStep;
+        }
+
+        public long getMaxStep() {
+            return maxStep;
+        }
+
+        public void setMaxStep(long maxStep) {
+            this.maxStep = maxStep;
+        }
+
+        public double getPrefetchRatio() {
+            return prefetchRatio;
+        }
+
+        public void setPrefetchRatio(double prefetchRatio) {
+            this.prefetchRatio = prefetchRatio;
+        }
+
+        public Duration getTargetRefillInterval() {
+            return targetRefillInterval;
+        }
+
+        public void setTargetRefillInterval(Duration targetRefillInterval) {
+            this.targetRefillInterval = targetRefillInterval;
+        }
+    }
+
+    public static class Coalescing {
+        private int maxBatchSize = 256;
+        // Extra time to gather callers after the first one; zero only groups requests
+        // that queued up while the previous INCRBY was in flight
+        private Duration maxWait = Duration.ZERO;
+        private int queueCapacity = 10_000;
+        // Longest a caller waits for its value; the value is skipped if it arrives later
+        private Duration requestTimeout = Duration.ofSeconds(5);
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getRequestTimeout() {
+            return requestTimeout;
+        }
+
+        public void setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+        }
+    }
+
+    public static class Journal {
+        // Record the highest reserved sequence value in a local memory-mapped file
+        private boolean enabled = false;
+        private String path = "data/sequence.journal";
+        // Also msync each record; without it a record survives a process crash but not a power loss
+        private boolean sync = false;
+        // Added to this node's mark when re-seeding a lost key. Each node only knows its own mark,
+        // so this must cover how far the other nodes may have issued beyond it; with 0 the journal
+        // is only duplicate-safe when a single node issues from the key.
+        private long fleetHeadroom = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public boolean isSync() {
+            return sync;
+        }
+
+        public void setSync(boolean sync) {
+            this.sync = sync;
+        }
+
+        public long getFleetHeadroom() {
+            return fleetHeadroom;
+        }
+
+        public void setFleetHeadroom(long fleetHeadroom) {
+            this.fleetHeadroom = fleetHeadroom;
+        }
+    }
+
+    public static class Sharding {
+        // Keys the daily sequence is split over; 1 keeps the single seq:yyyyMMdd key
+        private int shards = 1;
+        private ShardRouting routing = ShardRouting.THREAD;
+
+        public int getShards() {
+            return shards;
+        }
+
+        public void setShards(int shards) {
+            this.shards = shards;
+        }
+
+        public ShardRouting getRouting() {
+            return routing;
+        }
+
+        public void setRouting(ShardRouting routing) {
+            this.routing = routing;
+        }
+    }
+
+    public static class Current {
+        // How old a value read from Redis may be before GET /sequence/current reads again
+        private Duration maxStaleness = Duration.ofSeconds(1);
+        // Read through a RESP3 connection with CLIENT TRACKING (Redis 6+); a value Redis has not
+        // invalidated is served without a round trip however old it is
+        private boolean tracking = false;
+
+        public Duration getMaxStaleness() {
+            return maxStaleness;
+        }
+
+        public void setMaxStaleness(Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+        }
+
+        public boolean isTracking() {
+            return tracking;
+        }
+
+        public void setTracking(boolean tracking) {
+            this.tracking = tracking;
+        }
+    }
+
+    public static class Namespace {
+        private ResetPeriod reset = ResetPeriod.DAILY;
+        private long maxValue = 9_999_999_999L;
+        // Defaults to "seq:<name>"; the period suffix is appended for daily and monthly resets
+        private String keyPrefix;
+        // Hand out values from locally leased segments instead of one INCR per value
+        private boolean leased = false;
+
+        public ResetPeriod getReset() {
+            return reset;
+        }
+
+        public void setReset(ResetPeriod reset) {
+            this.reset = reset;
+        }
+
+        public long getMaxValue() {
+            return maxValue;
+        }
+
+        public void setMaxValue(long maxValue) {
+            this.maxValue = maxValue;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public boolean isLeased() {
+            return leased;
+        }
+
+        public void setLeased(boolean leased) {
+            this.leased = leased;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "numbering.stream")
+public class StreamProperties {
+
+    // Upper bound on the IDs one streaming request may ask for
+    private long maxCount = 10_000_000;
+    // IDs fetched and written per chunk; also bounds the per-stream buffer
+    private int chunkSize = 1_000;
+
+    public long getMaxCount() {
+        return maxCount;
+    }
+
+    public void setMaxCount(long maxCount) {
+        this.maxCount = maxCount;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "numbering.tcp")
+public class TcpProperties {
+
+    // Serve the binary protocol next to the REST API
+    private boolean enabled = false;
+    private int port = 7070;
+    // Selector threads; connections are spread across them round-robin
+    private int eventLoops = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getEventLoops() {
+        return eventLoops;
+    }
+
+    public void setEventLoops(int eventLoops) {
+        this.eventLoops = eventLoops;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "numbering.warmup")
+public class WarmupProperties {
+
+    // Run the issuance paths before readiness is reported
+    private boolean enabled = true;
+    // Enough calls for the JIT to compile the GUID path before real traffic arrives
+    private int guidIterations = 20_000;
+    // Sequence script calls against a throwaway key, which also open the Redis connection
+    private int redisIterations = 200;
+    private String redisKey = "numbering:warmup";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getGuidIterations() {
+        return guidIterations;
+    }
+
+    public void setGuidIterations(int guidIterations) {
+        this.guidIterations = guidIterations;
+    }
+
+    public int getRedisIterations() {
+        return redisIterations;
+    }
+
+    public void setRedisIterations(int redisIterations) {
+        this.redisIterations = redisIterations;
+    }
+
+    public String getRedisKey() {
+        return redisKey;
+    }
+
+    public void setRedisKey(String redisKey) {
+        this.redisKey = redisKey;
+    }
+}
\ No newline at end of file
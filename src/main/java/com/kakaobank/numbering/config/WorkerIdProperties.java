@@ -0,0 +1,57 @@
+package com.kakaobank.numbering.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "numbering.worker-id")
+public class WorkerIdProperties {
+
+    // Lease the node's worker ID from Redis instead of deriving it from the pid
+    private boolean enabled = false;
+    // Size of the ID pool; up to 1024 the worker ID is also the numeric ID node field
+    private int maxWorkers = 1_024;
+    // How long a lease outlives its holder; a crashed node's ID is free again after this
+    private Duration leaseTtl = Duration.ofSeconds(10);
+    private Duration heartbeatInterval = Duration.ofSeconds(3);
+    private String keyPrefix = "numbering:worker:";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxWorkers() {
+        return maxWorkers;
+    }
+
+    public void setMaxWorkers(int maxWorkers) {
+        this.maxWorkers = maxWorkers;
+    }
+
+    public Duration getLeaseTtl() {
+        return leaseTtl;
+    }
+
+    public void setLeaseTtl(Duration leaseTtl) {
+        this.leaseTtl = leaseTtl;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.kakaobank.numbering.controller;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte-level writers shared by the response encoders, which size their buffers up front
+ * and fill them without going through a {@code String} or a stream.
+ */
+final class IdEncoding {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.ISO_8859_1);
+
+    private IdEncoding() {
+    }
+
+    static int put(byte[] buffer, int position, byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    /**
+     * Copies a string of single-byte characters, such as a GUID.
+     */
+    static int putAscii(byte[] buffer, int position, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+        return position;
+    }
+
+    static int decimalLength(long value) {
+        if (value < 0) {
+            return value == Long.MIN_VALUE ? 20 : 1 + decimalLength(-value);
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    static int putDecimal(byte[] buffer, int position, long value) {
+        int end = position + decimalLength(value);
+        if (value < 0) {
+            buffer[position] = '-';
+        }
+        int i = end - 1;
+        do {
+            // Digit of the remaining value, taken without negating so Long.MIN_VALUE works too
+            buffer[i--] = (byte) ('0' + Math.abs(value % 10));
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    static int putLong(byte[] buffer, int position, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return position;
+    }
+
+    /**
+     * Length of {@code value} as a quoted JSON string, escaped the way Jackson escapes it.
+     * GUIDs are ASCII, so only quotes, backslashes and control characters need escaping.
+     */
+    static int jsonStringLength(String value) {
+        int length = 2;
+        for (int i = 0; i < value.length(); i++) {
+            length += escapeLength(value.charAt(i));
+        }
+        return length;
+    }
+
+    static int putJsonString(byte[] buffer, int position, String value) {
+        buffer[position++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (escapeLength(c)) {
+                case 1:
+                    buffer[position++] = (byte) c;
+                    break;
+                case 2:
+                    buffer[position++] = '\\';
+                    buffer[position++] = (byte) shortEscape(c);
+                    break;
+                default:
+                    buffer[position++] = '\\';
+                    buffer[position++] = 'u';
+                    buffer[position++] = '0';
+                    buffer[position++] = '0';
+                    buffer[position++] = HEX[c >> 4];
+                    buffer[position++] = HEX[c & 0xf];
+            }
+        }
+        buffer[position++] = '"';
+        return position;
+    }
+
+    private static int escapeLength(char c) {
+        if (c >= 0x20) {
+            return c == '"' || c == '\\' ? 2 : 1;
+        }
+        return shortEscape(c) != 0 ? 2 : 6;
+    }
+
+    private static char shortEscape(char c) {
+        switch (c) {
+            case '"':
+            case '\\':
+                return c;
+            case '\b':
+                return 'b';
+            case '\t':
+                return 't';
+            case '\n':
+                return 'n';
+            case '\f':
+                return 'f';
+            case '\r':
+                return 'r';
+            default:
+                return 0;
+        }
+    }
+}
\ No newline at end of file
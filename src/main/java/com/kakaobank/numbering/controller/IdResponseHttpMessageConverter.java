@@ -0,0 +1,276 @@
+package com.kakaobank.numbering.controller;
+
+import com.kakaobank.numbering.dto.GuidBatchResponse;
+import com.kakaobank.numbering.dto.GuidResponse;
+import com.kakaobank.numbering.dto.NumericIdResponse;
+import com.kakaobank.numbering.dto.SequenceRangeResponse;
+import com.kakaobank.numbering.dto.SequenceResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Writes the ID responses without Jackson: each body is sized from the values it carries,
+ * filled into one byte array and sent with a Content-Length.
+ * <p>
+ * The format follows the Accept header:
+ * <ul>
+ *   <li>{@code application/json}, the default: the fields and layout Jackson produced</li>
+ *   <li>{@code text/plain}: the values only, one per line; a range is its start and end</li>
+ *   <li>{@code application/octet-stream}: longs as 8-byte big-endian, GUIDs as 30-byte ASCII
+ *       records, as in the binary streams and the TCP protocol</li>
+ * </ul>
+ * Registered as a bean, so Spring Boot puts it ahead of Jackson; error bodies and the other
+ * DTOs are still written by Jackson. Error responses set their content type to JSON, so they
+ * are written whatever format the client asked for.
+ */
+@Component
+public class IdResponseHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final Set<Class<?>> TYPES = Set.of(GuidResponse.class, GuidBatchResponse.class,
+        SequenceResponse.class, SequenceRangeResponse.class, NumericIdResponse.class);
+    private static final byte[] GUID_FIELD = ascii("{\"guid\":");
+    private static final byte[] GUIDS_FIELD = ascii("{\"guids\":");
+    private static final byte[] VALUE_FIELD = ascii("{\"value\":");
+    private static final byte[] START_FIELD = ascii("{\"start\":");
+    private static final byte[] END_FIELD = ascii(",\"end\":");
+    private static final byte[] ID_FIELD = ascii("{\"id\":");
+    private static final byte[] NULL = ascii("null");
+
+    enum Format {
+        JSON,
+        TEXT,
+        BINARY;
+
+        static Format of(MediaType contentType) {
+            if (contentType == null) {
+                return JSON;
+            }
+            if (contentType.isCompatibleWith(MediaType.TEXT_PLAIN)) {
+                return TEXT;
+            }
+            return contentType.isCompatibleWith(MediaType.APPLICATION_OCTET_STREAM) ? BINARY : JSON;
+        }
+    }
+
+    public IdResponseHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TYPES.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ID responses are not read from requests", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(Object response, MediaType contentType) {
+        return (long) length(response, Format.of(contentType));
+    }
+
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(encode(response, Format.of(outputMessage.getHeaders().getContentType())));
+    }
+
+    byte[] encode(Object response, Format format) {
+        byte[] buffer = new byte[length(response, format)];
+        if (response instanceof GuidResponse guid) {
+            writeGuid(buffer, guid.getGuid(), format);
+        } else if (response instanceof GuidBatchResponse batch) {
+            writeGuids(buffer, batch.getGuids(), format);
+        } else if (response instanceof SequenceResponse sequence) {
+            writeLong(buffer, VALUE_FIELD, sequence.getValue(), format);
+        } else if (response instanceof NumericIdResponse numericId) {
+            writeLong(buffer, ID_FIELD, numericId.getId(), format);
+        } else if (response instanceof SequenceRangeResponse range) {
+            writeRange(buffer, range.getStart(), range.getEnd(), format);
+        }
+        return buffer;
+    }
+
+    private static int length(Object response, Format format) {
+        if (response instanceof GuidResponse guid) {
+            return guidLength(guid.getGuid(), format);
+        }
+        if (response instanceof GuidBatchResponse batch) {
+            return guidsLength(batch.getGuids(), format);
+        }
+        if (response instanceof SequenceResponse sequence) {
+            return longLength(VALUE_FIELD, sequence.getValue(), format);
+        }
+        if (response instanceof NumericIdResponse numericId) {
+            return longLength(ID_FIELD, numericId.getId(), format);
+        }
+        SequenceRangeResponse range = (SequenceRangeResponse) response;
+        return rangeLength(range.getStart(), range.getEnd(), format);
+    }
+
+    private static int guidLength(String guid, Format format) {
+        return format == Format.JSON
+            ? GUID_FIELD.length + jsonStringLength(guid) + 1
+            : guidRecordLength(guid, format);
+    }
+
+    private static void writeGuid(byte[] buffer, String guid, Format format) {
+        if (format != Format.JSON) {
+            putGuidRecord(buffer, 0, guid, format);
+            return;
+        }
+        int position = IdEncoding.put(buffer, 0, GUID_FIELD);
+        position = putJsonString(buffer, position, guid);
+        buffer[position] = '}';
+    }
+
+    private static int guidRecordLength(String guid, Format format) {
+        if (guid == null) {
+            return 0;
+        }
+        return format == Format.TEXT ? guid.length() + 1 : guid.length();
+    }
+
+    /**
+     * A GUID as a text line or a binary record.
+     */
+    private static int putGuidRecord(byte[] buffer, int position, String guid, Format format) {
+        if (guid == null) {
+            return position;
+        }
+        position = IdEncoding.putAscii(buffer, position, guid);
+        if (format == Format.TEXT) {
+            buffer[position++] = '\n';
+        }
+        return position;
+    }
+
+    private static int guidsLength(String[] guids, Format format) {
+        if (guids == null) {
+            return format == Format.JSON ? GUIDS_FIELD.length + NULL.length + 1 : 0;
+        }
+        int length = 0;
+        for (String guid : guids) {
+            length += format == Format.JSON ? jsonStringLength(guid) : guidRecordLength(guid, format);
+        }
+        // Brackets, commas between the elements and the closing brace
+        return format == Format.JSON ? GUIDS_FIELD.length + length + Math.max(guids.length - 1, 0) + 3 : length;
+    }
+
+    private static void writeGuids(byte[] buffer, String[] guids, Format format) {
+        if (format != Format.JSON) {
+            if (guids != null) {
+                int position = 0;
+                for (String guid : guids) {
+                    position = putGuidRecord(buffer, position, guid, format);
+                }
+            }
+            return;
+        }
+        int position = IdEncoding.put(buffer, 0, GUIDS_FIELD);
+        if (guids == null) {
+            position = IdEncoding.put(buffer, position, NULL);
+        } else {
+            buffer[position++] = '[';
+            for (int i = 0; i < guids.length; i++) {
+                if (i > 0) {
+                    buffer[position++] = ',';
+                }
+                position = putJsonString(buffer, position, guids[i]);
+            }
+            buffer[position++] = ']';
+        }
+        buffer[position] = '}';
+    }
+
+    private static int longLength(byte[] field, Long value, Format format) {
+        switch (format) {
+            case JSON:
+                return field.length + (value != null ? IdEncoding.decimalLength(value) : NULL.length) + 1;
+            case TEXT:
+                return value != null ? IdEncoding.decimalLength(value) + 1 : 0;
+            default:
+                return value != null ? Long.BYTES : 0;
+        }
+    }
+
+    private static void writeLong(byte[] buffer, byte[] field, Long value, Format format) {
+        switch (format) {
+            case JSON:
+                int position = IdEncoding.put(buffer, 0, field);
+                position = value != null
+                    ? IdEncoding.putDecimal(buffer, position, value)
+                    : IdEncoding.put(buffer, position, NULL);
+                buffer[position] = '}';
+                break;
+            case TEXT:
+                if (value != null) {
+                    buffer[IdEncoding.putDecimal(buffer, 0, value)] = '\n';
+                }
+                break;
+            default:
+                if (value != null) {
+                    IdEncoding.putLong(buffer, 0, value);
+                }
+        }
+    }
+
+    private static int rangeLength(long start, long end, Format format) {
+        switch (format) {
+            case JSON:
+                return START_FIELD.length + IdEncoding.decimalLength(start) + END_FIELD.length
+                    + IdEncoding.decimalLength(end) + 1;
+            case TEXT:
+                return IdEncoding.decimalLength(start) + IdEncoding.decimalLength(end) + 2;
+            default:
+                return 2 * Long.BYTES;
+        }
+    }
+
+    private static void writeRange(byte[] buffer, long start, long end, Format format) {
+        switch (format) {
+            case JSON:
+                int position = IdEncoding.put(buffer, 0, START_FIELD);
+                position = IdEncoding.putDecimal(buffer, position, start);
+                position = IdEncoding.put(buffer, position, END_FIELD);
+                position = IdEncoding.putDecimal(buffer, position, end);
+                buffer[position] = '}';
+                break;
+            case TEXT:
+                position = IdEncoding.putDecimal(buffer, 0, start);
+                buffer[position++] = '\n';
+                position = IdEncoding.putDecimal(buffer, position, end);
+                buffer[position] = '\n';
+                break;
+            default:
+                IdEncoding.putLong(buffer, IdEncoding.putLong(buffer, 0, start), end);
+        }
+    }
+
+    private static int jsonStringLength(String value) {
+        return value != null ? IdEncoding.jsonStringLength(value) : NULL.length;
+    }
+
+    private static int putJsonString(byte[] buffer, int position, String value) {
+        return value != null
+            ? IdEncoding.putJsonString(buffer, position, value)
+            : IdEncoding.put(buffer, position, NULL);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
\ No newline at end of file
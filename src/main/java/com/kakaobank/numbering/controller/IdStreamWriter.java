@@ -0,0 +1,138 @@
+package com.kakaobank.numbering.controller;
+
+import com.kakaobank.numbering.config.StreamProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.SequenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes long runs of IDs straight to the response stream, one chunk at a time.
+ * <p>
+ * Each chunk is fetched only after the previous one was written, and a write blocks while the
+ * client is not reading, so issuance follows the client's pace. A stream holds one chunk-sized
+ * buffer however many IDs it produces. Once the first chunk is sent the status is committed;
+ * a later failure ends the stream early, which clients detect from the count they received.
+ */
+@Component
+public class IdStreamWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(IdStreamWriter.class);
+    private static final int GUID_LENGTH = 30;
+    private static final byte[] GUID_PREFIX = "{\"guid\":\"".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] GUID_SUFFIX = "\"}\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] VALUE_PREFIX = "{\"value\":".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] VALUE_SUFFIX = "}\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int MAX_LONG_DIGITS = 19;
+
+    public enum Format {
+        // One JSON object per line, same fields as the single-ID responses
+        NDJSON(MediaType.APPLICATION_NDJSON),
+        // GUIDs as 30-byte ASCII records, sequences as 8-byte big-endian longs
+        BINARY(MediaType.APPLICATION_OCTET_STREAM);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new InvalidRequestException("Unsupported stream format: " + name);
+        }
+    }
+
+    private final GuidService guidService;
+    private final SequenceService sequenceService;
+    private final StreamProperties properties;
+
+    public IdStreamWriter(GuidService guidService, SequenceService sequenceService, StreamProperties properties) {
+        this.guidService = guidService;
+        this.sequenceService = sequenceService;
+        this.properties = properties;
+    }
+
+    public StreamingResponseBody guids(long count, Format format) {
+        validateCount(count);
+        return out -> writeGuids(out, count, format);
+    }
+
+    public StreamingResponseBody sequences(long count, Format format) {
+        validateCount(count);
+        return out -> writeSequences(out, count, format);
+    }
+
+    void writeGuids(OutputStream out, long count, Format format) throws IOException {
+        int chunkSize = Math.min(Math.max(properties.getChunkSize(), 1), GuidService.MAX_BATCH_SIZE);
+        boolean ndjson = format == Format.NDJSON;
+        int recordSize = ndjson ? GUID_PREFIX.length + GUID_LENGTH + GUID_SUFFIX.length : GUID_LENGTH;
+        byte[] buffer = new byte[chunkSize * recordSize];
+        log.debug("Streaming {} GUIDs as {}", count, format);
+
+        for (long remaining = count; remaining > 0; ) {
+            int size = (int) Math.min(chunkSize, remaining);
+            int position = 0;
+            for (String guid : guidService.generateGuids(size)) {
+                if (ndjson) {
+                    position = IdEncoding.put(buffer, position, GUID_PREFIX);
+                }
+                position = IdEncoding.putAscii(buffer, position, guid);
+                if (ndjson) {
+                    position = IdEncoding.put(buffer, position, GUID_SUFFIX);
+                }
+            }
+            out.write(buffer, 0, position);
+            out.flush();
+            remaining -= size;
+        }
+    }
+
+    void writeSequences(OutputStream out, long count, Format format) throws IOException {
+        int chunkSize = Math.min(Math.max(properties.getChunkSize(), 1), SequenceService.MAX_BATCH_SIZE);
+        boolean ndjson = format == Format.NDJSON;
+        int recordSize = ndjson ? VALUE_PREFIX.length + MAX_LONG_DIGITS + VALUE_SUFFIX.length : Long.BYTES;
+        byte[] buffer = new byte[chunkSize * recordSize];
+        log.debug("Streaming {} sequences as {}", count, format);
+
+        for (long remaining = count; remaining > 0; ) {
+            int size = (int) Math.min(chunkSize, remaining);
+            long start = sequenceService.generateSequenceRange(size);
+            int position = 0;
+            for (long value = start, end = start + size; value < end; value++) {
+                if (ndjson) {
+                    position = IdEncoding.put(buffer, position, VALUE_PREFIX);
+                    position = IdEncoding.putDecimal(buffer, position, value);
+                    position = IdEncoding.put(buffer, position, VALUE_SUFFIX);
+                } else {
+                    position = IdEncoding.putLong(buffer, position, value);
+                }
+            }
+            out.write(buffer, 0, position);
+            out.flush();
+            remaining -= size;
+        }
+    }
+
+    private void validateCount(long count) {
+        if (count < 1 || count > properties.getMaxCount()) {
+            throw new InvalidRequestException(
+                String.format("Stream count must be between 1 and %d, got %d", properties.getMaxCount(), count));
+        }
+    }
+}
\ No newline at end of file
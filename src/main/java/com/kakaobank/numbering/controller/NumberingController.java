@@ -1,10 +1,18 @@
 package com.kakaobank.numbering.controller;
 
+import com.kakaobank.numbering.dto.GuidBatchResponse;
 import com.kakaobank.numbering.dto.GuidResponse;
+import com.kakaobank.numbering.dto.NumericIdDecodeResponse;
+import com.kakaobank.numbering.dto.NumericIdResponse;
+import com.kakaobank.numbering.dto.SequenceRangeResponse;
 import com.kakaobank.numbering.dto.SequenceResponse;
 import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.NamespaceSequenceService;
+import com.kakaobank.numbering.service.NumericIdService;
 import com.kakaobank.numbering.service.SequenceService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -12,10 +20,19 @@ public class NumberingController {
     
     private final GuidService guidService;
     private final SequenceService sequenceService;
+    private final NumericIdService numericIdService;
+    private final NamespaceSequenceService namespaceSequenceService;
+    private final IdStreamWriter idStreamWriter;
     
-    public NumberingController(GuidService guidService, SequenceService sequenceService) {
+    public NumberingController(GuidService guidService, SequenceService sequenceService,
+                               NumericIdService numericIdService,
+                               NamespaceSequenceService namespaceSequenceService,
+                               IdStreamWriter idStreamWriter) {
         this.guidService = guidService;
         this.sequenceService = sequenceService;
+        this.numericIdService = numericIdService;
+        this.namespaceSequenceService = namespaceSequenceService;
+        this.idStreamWriter = idStreamWriter;
     }
     
     @PostMapping("/guid")
@@ -24,15 +41,69 @@ public class NumberingController {
         return new GuidResponse(guid);
     }
     
+    @PostMapping("/guid/batch")
+    public GuidBatchResponse generateGuidBatch(@RequestParam int count) {
+        String[] guids = guidService.generateGuids(count);
+        return new GuidBatchResponse(guids);
+    }
+    
+    @PostMapping("/guid/stream")
+    public ResponseEntity<StreamingResponseBody> streamGuids(@RequestParam long count,
+                                                             @RequestParam(defaultValue = "ndjson") String format) {
+        IdStreamWriter.Format streamFormat = IdStreamWriter.Format.of(format);
+        return ResponseEntity.ok()
+            .contentType(streamFormat.getMediaType())
+            .body(idStreamWriter.guids(count, streamFormat));
+    }
+    
     @PostMapping("/sequence")
     public SequenceResponse generateSequence() {
         Long value = sequenceService.generateSequence();
         return new SequenceResponse(value);
     }
     
+    @PostMapping("/sequence/batch")
+    public SequenceRangeResponse generateSequenceBatch(@RequestParam int count) {
+        long start = sequenceService.generateSequenceRange(count);
+        return new SequenceRangeResponse(start, start + count - 1);
+    }
+    
+    @PostMapping("/sequence/stream")
+    public ResponseEntity<StreamingResponseBody> streamSequences(@RequestParam long count,
+                                                                 @RequestParam(defaultValue = "ndjson") String format) {
+        IdStreamWriter.Format streamFormat = IdStreamWriter.Format.of(format);
+        return ResponseEntity.ok()
+            .contentType(streamFormat.getMediaType())
+            .body(idStreamWriter.sequences(count, streamFormat));
+    }
+    
     @GetMapping("/sequence/current")
     public SequenceResponse getCurrentSequence() {
         Long value = sequenceService.getCurrentSequence();
         return new SequenceResponse(value);
     }
+    
+    @PostMapping("/sequence/{name}")
+    public SequenceResponse generateNamespaceSequence(@PathVariable String name) {
+        Long value = namespaceSequenceService.generateSequence(name);
+        return new SequenceResponse(value);
+    }
+    
+    @GetMapping("/sequence/{name}/current")
+    public SequenceResponse getCurrentNamespaceSequence(@PathVariable String name) {
+        Long value = namespaceSequenceService.getCurrentSequence(name);
+        return new SequenceResponse(value);
+    }
+    
+    @PostMapping("/id")
+    public NumericIdResponse generateNumericId() {
+        long id = numericIdService.generateId();
+        return new NumericIdResponse(id);
+    }
+    
+    @GetMapping("/id/{id}")
+    public NumericIdDecodeResponse decodeNumericId(@PathVariable long id) {
+        return new NumericIdDecodeResponse(id, NumericIdService.timestampOf(id),
+            NumericIdService.nodeOf(id), NumericIdService.sequenceOf(id));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.kakaobank.numbering.dto;
+
+public class GuidBatchResponse {
+    private String[] guids;
+    
+    public GuidBatchResponse() {}
+    
+    public GuidBatchResponse(String[] guids) {
+        this.guids = guids;
+    }
+    
+    public String[] getGuids() {
+        return guids;
+    }
+    
+    public void setGuids(String[] guids) {
+        this.guids = guids;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.kakaobank.numbering.dto;
+
+public class NumericIdDecodeResponse {
+    private long id;
+    private long timestamp;
+    private int node;
+    private int sequence;
+    
+    public NumericIdDecodeResponse() {}
+    
+    public NumericIdDecodeResponse(long id, long timestamp, int node, int sequence) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.node = node;
+        this.sequence = sequence;
+    }
+    
+    public long getId() {
+        return id;
+    }
+    
+    public void setId(long id) {
+        this.id = id;
+    }
+    
+    public long getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+    
+    public int getNode() {
+        return node;
+    }
+    
+    public void setNode(int node) {
+        this.node = node;
+    }
+    
+    public int getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(int sequence) {
+        this.sequence = sequence;
+    }
+}
\ No newline at end of file
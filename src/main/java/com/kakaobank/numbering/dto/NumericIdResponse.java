@@ -0,0 +1,19 @@
+package com.kakaobank.numbering.dto;
+
+public class NumericIdResponse {
+    private long id;
+    
+    public NumericIdResponse() {}
+    
+    public NumericIdResponse(long id) {
+        this.id = id;
+    }
+    
+    public long getId() {
+        return id;
+    }
+    
+    public void setId(long id) {
+        this.id = id;
+    }
+}
\ No newline at end of file
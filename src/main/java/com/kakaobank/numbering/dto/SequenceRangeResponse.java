@@ -0,0 +1,29 @@
+package com.kakaobank.numbering.dto;
+
+public class SequenceRangeResponse {
+    private long start;
+    private long end;
+    
+    public SequenceRangeResponse() {}
+    
+    public SequenceRangeResponse(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+    
+    public long getStart() {
+        return start;
+    }
+    
+    public void setStart(long start) {
+        this.start = start;
+    }
+    
+    public long getEnd() {
+        return end;
+    }
+    
+    public void setEnd(long end) {
+        this.end = end;
+    }
+}
\ No newline at end of file
@@ -1,12 +1,18 @@
 package com.kakaobank.numbering.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,54 +21,161 @@ import java.util.Map;
 public class GlobalExceptionHandler {
     
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    // Shared by every rejected request; no timestamp, so nothing is built per failure
+    private static final ResponseEntity<Map<String, Object>> CIRCUIT_OPEN_RESPONSE =
+        prebuiltErrorResponse("Service temporarily unavailable");
+    private static final ResponseEntity<Map<String, Object>> LIMIT_EXCEEDED_RESPONSE =
+        prebuiltErrorResponse("Service overloaded");
+    // Not retried after a delay: the node stays without a node number until it is reconfigured
+    private static final ResponseEntity<Map<String, Object>> NUMERIC_ID_UNAVAILABLE_RESPONSE =
+        ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(Map.of("error", "Numeric IDs are not available on this node",
+                "status", HttpStatus.SERVICE_UNAVAILABLE.value()));
+    
+    private final Counter sequenceGenerationErrors;
+    private final Counter guidGenerationErrors;
+    private final Counter redisOperationErrors;
+    private final Counter redisRejectedErrors;
+    private final Counter redisConnectionErrors;
+    private final Counter numericIdUnavailableErrors;
+    private final Counter invalidRequestErrors;
+    private final Counter missingParameterErrors;
+    private final Counter parameterTypeErrors;
+    private final Counter illegalArgumentErrors;
+    private final Counter illegalStateErrors;
+    private final Counter runtimeErrors;
+    private final Counter unexpectedErrors;
+    
+    public GlobalExceptionHandler(MeterRegistry registry) {
+        this.sequenceGenerationErrors = errorCounter(registry, SequenceGenerationException.class);
+        this.guidGenerationErrors = errorCounter(registry, GuidGenerationException.class);
+        this.redisOperationErrors = errorCounter(registry, RedisOperationException.class);
+        this.redisRejectedErrors = errorCounter(registry, RedisRejectedException.class);
+        this.redisConnectionErrors = errorCounter(registry, RedisConnectionFailureException.class);
+        this.numericIdUnavailableErrors = errorCounter(registry, NumericIdUnavailableException.class);
+        this.invalidRequestErrors = errorCounter(registry, InvalidRequestException.class);
+        this.missingParameterErrors = errorCounter(registry, MissingServletRequestParameterException.class);
+        this.parameterTypeErrors = errorCounter(registry, MethodArgumentTypeMismatchException.class);
+        this.illegalArgumentErrors = errorCounter(registry, IllegalArgumentException.class);
+        this.illegalStateErrors = errorCounter(registry, IllegalStateException.class);
+        this.runtimeErrors = errorCounter(registry, RuntimeException.class);
+        this.unexpectedErrors = errorCounter(registry, Exception.class);
+    }
     
     @ExceptionHandler(SequenceGenerationException.class)
     public ResponseEntity<Map<String, Object>> handleSequenceGenerationException(SequenceGenerationException e) {
+        sequenceGenerationErrors.increment();
         log.error("Sequence generation failed", e);
         return createErrorResponse(HttpStatus.CONFLICT, e.getMessage());
     }
     
     @ExceptionHandler(GuidGenerationException.class)
     public ResponseEntity<Map<String, Object>> handleGuidGenerationException(GuidGenerationException e) {
+        guidGenerationErrors.increment();
         log.error("GUID generation failed", e);
         return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
     }
     
     @ExceptionHandler(RedisOperationException.class)
     public ResponseEntity<Map<String, Object>> handleRedisOperationException(RedisOperationException e) {
+        redisOperationErrors.increment();
         log.error("Redis operation failed", e);
         return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Database operation failed");
     }
     
+    @ExceptionHandler(RedisRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleRedisRejected(RedisRejectedException e) {
+        // Shed load: no logging, the rejection reason is already metered
+        redisRejectedErrors.increment();
+        return e == RedisRejectedException.CIRCUIT_OPEN ? CIRCUIT_OPEN_RESPONSE : LIMIT_EXCEEDED_RESPONSE;
+    }
+    
     @ExceptionHandler(RedisConnectionFailureException.class)
     public ResponseEntity<Map<String, Object>> handleRedisConnectionFailure(RedisConnectionFailureException e) {
+        redisConnectionErrors.increment();
         log.error("Redis connection failed", e);
         return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service temporarily unavailable");
     }
     
+    @ExceptionHandler(NumericIdUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleNumericIdUnavailable(NumericIdUnavailableException e) {
+        // Logged once at startup, when the node number could not be resolved
+        numericIdUnavailableErrors.increment();
+        return NUMERIC_ID_UNAVAILABLE_RESPONSE;
+    }
+    
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequest(InvalidRequestException e) {
+        invalidRequestErrors.increment();
+        log.warn("Invalid request: {}", e.getMessage());
+        return createErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+    
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<Map<String, Object>> handleMissingParameter(MissingServletRequestParameterException e) {
+        missingParameterErrors.increment();
+        log.warn("Invalid request: missing parameter {}", e.getParameterName());
+        return createErrorResponse(HttpStatus.BAD_REQUEST, "Missing request parameter: " + e.getParameterName());
+    }
+    
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleParameterTypeMismatch(MethodArgumentTypeMismatchException e) {
+        parameterTypeErrors.increment();
+        log.warn("Invalid request: malformed parameter {}", e.getName());
+        return createErrorResponse(HttpStatus.BAD_REQUEST, "Invalid value for parameter: " + e.getName());
+    }
+    
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        // Request input is rejected with InvalidRequestException, so anything else is a bug
+        illegalArgumentErrors.increment();
+        log.error("Illegal argument encountered", e);
+        return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+    }
+    
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalState(IllegalStateException e) {
+        illegalStateErrors.increment();
         log.error("Illegal state encountered", e);
         return createErrorResponse(HttpStatus.CONFLICT, e.getMessage());
     }
     
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException e) {
+        runtimeErrors.increment();
         log.error("Runtime exception occurred", e);
         return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
     }
     
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception e) {
+        unexpectedErrors.increment();
         log.error("Unexpected error occurred", e);
         return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
     }
     
+    private static Counter errorCounter(MeterRegistry registry, Class<? extends Exception> type) {
+        return Counter.builder("numbering.errors")
+            .description("Errors answered by the global exception handler")
+            .tag("exception", type.getSimpleName())
+            .register(registry);
+    }
+    
+    // Error bodies are maps only Jackson writes, so they are JSON whatever the client accepts;
+    // negotiating them against an Accept of text/plain would turn every error into a 406
+    private static ResponseEntity<Map<String, Object>> prebuiltErrorResponse(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(Map.of("error", message, "status", HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+    
     private ResponseEntity<Map<String, Object>> createErrorResponse(HttpStatus status, String message) {
         Map<String, Object> errorResponse = new HashMap<>();
         errorResponse.put("error", message);
         errorResponse.put("status", status.value());
         errorResponse.put("timestamp", LocalDateTime.now());
-        return ResponseEntity.status(status).body(errorResponse);
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.kakaobank.numbering.exception;
+
+public class InvalidRequestException extends IllegalArgumentException {
+    
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
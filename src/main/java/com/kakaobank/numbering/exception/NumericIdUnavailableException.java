@@ -0,0 +1,15 @@
+package com.kakaobank.numbering.exception;
+
+/**
+ * Numeric IDs were requested on a node started without a unique node number. Thrown as a shared
+ * instance without a stack trace; the cause is logged once at startup.
+ */
+public class NumericIdUnavailableException extends RuntimeException {
+    
+    public static final NumericIdUnavailableException NO_NODE_ID = new NumericIdUnavailableException(
+        "Numeric IDs need a unique node number");
+    
+    private NumericIdUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
\ No newline at end of file
@@ -9,4 +9,8 @@ public class RedisOperationException extends RuntimeException {
     public RedisOperationException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    protected RedisOperationException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.kakaobank.numbering.exception;
+
+/**
+ * A Redis call refused before it was sent, because the circuit is open, too many calls are
+ * already in flight or the coalescing queue is full. Thrown as shared instances without a stack
+ * trace, so shedding load costs no allocation.
+ */
+public class RedisRejectedException extends RedisOperationException {
+    
+    public static final RedisRejectedException CIRCUIT_OPEN =
+        new RedisRejectedException("Redis circuit is open");
+    public static final RedisRejectedException LIMIT_EXCEEDED =
+        new RedisRejectedException("Redis concurrency limit exceeded");
+    public static final RedisRejectedException QUEUE_FULL =
+        new RedisRejectedException("Sequence request queue is full");
+    
+    private RedisRejectedException(String message) {
+        super(message, false);
+    }
+}
\ No newline at end of file
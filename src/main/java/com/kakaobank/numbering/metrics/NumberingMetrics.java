@@ -0,0 +1,148 @@
+package com.kakaobank.numbering.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the issuance hot paths. Everything is registered up front so that recording
+ * on a request thread is a field read plus an update, with no lookup or allocation.
+ */
+@Component
+public class NumberingMetrics {
+    
+    private final Timer guidTimer;
+    private final Timer sequenceTimer;
+    private final Timer numericIdTimer;
+    private final Timer namespaceSequenceTimer;
+    private final Timer redisIncrementTimer;
+    private final Timer redisIncrementByTimer;
+    private final Counter guidCounterExhausted;
+    private final Counter sequenceRollover;
+    private final DistributionSummary coalescedBatchSize;
+    private final Counter auditDropped;
+    private final Counter redisCircuitRejected;
+    private final Counter redisLimitRejected;
+    private final Counter redisQueueRejected;
+    private final Counter currentSequenceRead;
+    
+    public NumberingMetrics(MeterRegistry registry) {
+        this.guidTimer = generatorTimer(registry, "guid");
+        this.sequenceTimer = generatorTimer(registry, "sequence");
+        this.numericIdTimer = generatorTimer(registry, "numeric");
+        this.namespaceSequenceTimer = generatorTimer(registry, "namespace");
+        this.redisIncrementTimer = redisTimer(registry, "incr");
+        this.redisIncrementByTimer = redisTimer(registry, "incrby");
+        this.guidCounterExhausted = Counter.builder("numbering.guid.counter.exhausted")
+            .description("Times the GUID counter ran out within a millisecond and waited for the next one")
+            .register(registry);
+        this.sequenceRollover = Counter.builder("numbering.sequence.rollover")
+            .description("Daily sequence key changes observed by this node")
+            .register(registry);
+        this.coalescedBatchSize = DistributionSummary.builder("numbering.sequence.coalesced.batch")
+            .description("Sequence requests served by one INCRBY in coalescing mode")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        this.auditDropped = Counter.builder("numbering.audit.dropped")
+            .description("Audit records dropped because the writer fell a full ring behind or could not "
+                + "rotate a full segment")
+            .register(registry);
+        this.redisCircuitRejected = redisRejectedCounter(registry, "circuit_open");
+        this.redisLimitRejected = redisRejectedCounter(registry, "concurrency_limit");
+        this.redisQueueRejected = redisRejectedCounter(registry, "queue_full");
+        this.currentSequenceRead = Counter.builder("numbering.sequence.current.read")
+            .description("Current sequence requests that could not be answered from memory and read Redis")
+            .register(registry);
+    }
+    
+    /**
+     * Metrics that record nothing, for services constructed outside the Spring context.
+     */
+    public static NumberingMetrics noop() {
+        return new NumberingMetrics(new CompositeMeterRegistry());
+    }
+    
+    public void recordGuid(long startNanos) {
+        guidTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void recordSequence(long startNanos) {
+        sequenceTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void recordNumericId(long startNanos) {
+        numericIdTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void recordNamespaceSequence(long startNanos) {
+        namespaceSequenceTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void recordRedisIncrement(long startNanos) {
+        redisIncrementTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void recordRedisIncrementBy(long startNanos) {
+        redisIncrementByTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void guidCounterExhausted() {
+        guidCounterExhausted.increment();
+    }
+    
+    public void sequenceRollover() {
+        sequenceRollover.increment();
+    }
+    
+    public void recordCoalescedBatch(int size) {
+        coalescedBatchSize.record(size);
+    }
+    
+    public void auditDropped() {
+        auditDropped.increment();
+    }
+    
+    public void redisCircuitRejected() {
+        redisCircuitRejected.increment();
+    }
+    
+    public void redisLimitRejected() {
+        redisLimitRejected.increment();
+    }
+    
+    public void redisQueueRejected() {
+        redisQueueRejected.increment();
+    }
+    
+    public void currentSequenceRead() {
+        currentSequenceRead.increment();
+    }
+    
+    private static Timer generatorTimer(MeterRegistry registry, String generator) {
+        return Timer.builder("numbering.generate")
+            .description("Latency of issuing one ID")
+            .tag("generator", generator)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+    
+    private static Counter redisRejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("numbering.redis.rejected")
+            .description("Sequence Redis calls refused without being sent")
+            .tag("reason", reason)
+            .register(registry);
+    }
+    
+    private static Timer redisTimer(MeterRegistry registry, String command) {
+        return Timer.builder("numbering.redis.roundtrip")
+            .description("Round trip of the Redis command behind sequence issuance")
+            .tag("command", command)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .register(registry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.RedisGuardProperties;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that follows Redis latency, in the manner of a gradient limiter.
+ * <p>
+ * A fast and a slow moving average of call latency are kept. While the fast one stays within
+ * {@code tolerance} times the slow one, calls are not queueing and the limit grows by about
+ * a fraction of its square root per sample. Beyond that the limit is pulled towards the ratio
+ * between the two, by up to a tenth per sample, so the number of callers waiting on a slow
+ * Redis shrinks before they run into the client timeout.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final double LONG_WEIGHT = 0.01;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile int limit;
+    // Guarded by lock
+    private double estimate;
+    private double shortLatency;
+    private double longLatency;
+
+    AdaptiveConcurrencyLimit(RedisGuardProperties.Concurrency properties) {
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.tolerance = properties.getTolerance();
+        this.estimate = Math.min(Math.max(properties.getInitialLimit(), minLimit), maxLimit);
+        this.limit = (int) estimate;
+    }
+
+    int get() {
+        return limit;
+    }
+
+    void onSample(long latencyNanos) {
+        // A sample racing another one is skipped rather than waited for
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (longLatency == 0) {
+                shortLatency = latencyNanos;
+                longLatency = latencyNanos;
+                return;
+            }
+            shortLatency += (latencyNanos - shortLatency) * SHORT_WEIGHT;
+            longLatency += (latencyNanos - longLatency) * LONG_WEIGHT;
+            // After a slow period the long-term average lags far behind; let it catch up
+            if (longLatency > shortLatency * 2) {
+                longLatency *= 0.95;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency));
+            double next = estimate * gradient + Math.sqrt(estimate);
+            estimate = Math.min(Math.max(estimate * (1 - SMOOTHING) + next * SMOOTHING, minLimit), maxLimit);
+            limit = (int) estimate;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
\ No newline at end of file
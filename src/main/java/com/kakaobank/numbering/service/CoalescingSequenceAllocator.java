@@ -0,0 +1,183 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.RedisOperationException;
+import com.kakaobank.numbering.exception.RedisRejectedException;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Groups concurrent sequence requests into one INCRBY.
+ * <p>
+ * Callers queue up and block; a single dispatcher thread drains the queue (up to
+ * {@code maxBatchSize}, optionally waiting {@code maxWait} for more callers), reserves exactly
+ * that many values and hands them out in queue order. Unlike segment mode nothing is reserved
+ * ahead of demand, so a restart leaves no unused range behind.
+ */
+class CoalescingSequenceAllocator implements SequenceAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingSequenceAllocator.class);
+
+    private final RangeReserver reserver;
+    private final long maxValue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long requestTimeoutNanos;
+    private final NumberingMetrics metrics;
+    private final BlockingQueue<Request> queue;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    CoalescingSequenceAllocator(RangeReserver reserver, long maxValue, SequenceProperties.Coalescing properties,
+                                NumberingMetrics metrics) {
+        this.reserver = reserver;
+        this.maxValue = maxValue;
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.requestTimeoutNanos = properties.getRequestTimeout().toNanos();
+        this.metrics = metrics;
+        this.queue = new ArrayBlockingQueue<>(Math.max(maxBatchSize, properties.getQueueCapacity()));
+        this.dispatcher = new Thread(this::dispatchLoop, "sequence-coalescing-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    @Override
+    public long next(String key) {
+        Request request = new Request(key);
+        if (!queue.offer(request)) {
+            metrics.redisQueueRejected();
+            throw RedisRejectedException.QUEUE_FULL;
+        }
+        if (!running) {
+            failPending();
+        }
+        try {
+            return request.future.get(requestTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RedisOperationException("Coalesced sequence request failed", e.getCause());
+        } catch (TimeoutException e) {
+            // The dispatcher may still complete the request; that value is then never issued
+            throw new RedisOperationException("Timed out waiting for a coalesced sequence value");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisOperationException("Interrupted while waiting for a coalesced sequence value", e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    private void dispatchLoop() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                if (maxWaitNanos > 0) {
+                    gather(batch);
+                }
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // Never let the dispatcher die with callers still waiting
+                log.error("Unexpected error while dispatching coalesced sequence requests", e);
+                fail(batch, 0, batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        failPending();
+    }
+
+    private void gather(List<Request> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Request request = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (request == null) {
+                return;
+            }
+            batch.add(request);
+        }
+    }
+
+    private void dispatch(List<Request> batch) {
+        metrics.recordCoalescedBatch(batch.size());
+        // A batch spans at most a few keys (daily rollover); reserve per run of equal keys
+        int from = 0;
+        while (from < batch.size()) {
+            String key = batch.get(from).key;
+            int to = from + 1;
+            while (to < batch.size() && batch.get(to).key.equals(key)) {
+                to++;
+            }
+            issue(key, batch, from, to);
+            from = to;
+        }
+    }
+
+    private void issue(String key, List<Request> batch, int from, int to) {
+        int count = to - from;
+        long start;
+        try {
+            start = reserver.reserve(key, count) - count + 1;
+        } catch (RuntimeException e) {
+            fail(batch, from, to, e);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            long value = start + (i - from);
+            if (value > maxValue) {
+                batch.get(i).future.completeExceptionally(new SequenceGenerationException(
+                    String.format("Sequence exceeded maximum value: %d (max: %d)", value, maxValue)));
+            } else {
+                batch.get(i).future.complete(value);
+            }
+        }
+        log.debug("Coalesced {} sequence requests into range starting at {} for key: {}", count, start, key);
+    }
+
+    private void fail(List<Request> batch, int from, int to, RuntimeException e) {
+        for (int i = from; i < to; i++) {
+            batch.get(i).future.completeExceptionally(e);
+        }
+    }
+
+    private void failPending() {
+        Request request;
+        while ((request = queue.poll()) != null) {
+            request.future.completeExceptionally(new SequenceGenerationException("Sequence allocator is shut down"));
+        }
+    }
+
+    private static final class Request {
+        final String key;
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        Request(String key) {
+            this.key = key;
+        }
+    }
+}
\ No newline at end of file
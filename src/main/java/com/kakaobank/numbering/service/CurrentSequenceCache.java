@@ -0,0 +1,114 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Today's sequence value kept in memory for GET /sequence/current.
+ * <p>
+ * Every reservation this node makes returns the counter as Redis left it, which refreshes the
+ * value for free; otherwise it is read again once older than the staleness bound. With key
+ * tracking, a value read through the tracking connection stays exact until Redis invalidates
+ * it, and is served however old it is. One request at a time refreshes a stale value; the
+ * requests arriving meanwhile are served the value it replaces instead of queueing behind a
+ * slow Redis, and only a request with no value for the key at all reads Redis itself.
+ */
+final class CurrentSequenceCache {
+
+    private final long maxStalenessNanos;
+    private final SequenceKeyTracking tracking;
+    private final NumberingMetrics metrics;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicReference<Observation> observation = new AtomicReference<>();
+
+    CurrentSequenceCache(SequenceProperties.Current properties, SequenceKeyTracking tracking,
+                         NumberingMetrics metrics) {
+        this(properties, tracking, metrics, System::nanoTime);
+    }
+
+    CurrentSequenceCache(SequenceProperties.Current properties, SequenceKeyTracking tracking,
+                         NumberingMetrics metrics, LongSupplier nanoClock) {
+        this.maxStalenessNanos = properties.getMaxStaleness().toNanos();
+        this.tracking = tracking;
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * The value of {@code key}, read with {@code redisRead} when the one held is too old.
+     */
+    long get(String key, LongSupplier redisRead) {
+        Observation current = observation.get();
+        if (isUsable(current, key)) {
+            return current.value;
+        }
+        if (!refreshLock.tryLock()) {
+            if (current != null && current.key.equals(key)) {
+                // Stale by at most the refresh in flight
+                return current.value;
+            }
+            return read(key, redisRead);
+        }
+        try {
+            current = observation.get();
+            if (isUsable(current, key)) {
+                return current.value;
+            }
+            return read(key, redisRead);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private long read(String key, LongSupplier redisRead) {
+        // Taken before the read, so an invalidation racing the reply is not missed
+        long generation = tracking.generation();
+        long value = redisRead.getAsLong();
+        metrics.currentSequenceRead();
+        observation.set(new Observation(key, value, nanoClock.getAsLong(), generation));
+        return value;
+    }
+
+    /**
+     * Records the counter value a reservation on {@code key} got back from Redis.
+     */
+    void observe(String key, long value) {
+        Observation current = observation.get();
+        while (current == null || !current.key.equals(key) || current.value < value) {
+            Observation next = new Observation(key, value, nanoClock.getAsLong(), SequenceKeyTracking.UNTRACKED);
+            if (observation.compareAndSet(current, next)) {
+                return;
+            }
+            current = observation.get();
+        }
+    }
+
+    private boolean isUsable(Observation current, String key) {
+        if (current == null || !current.key.equals(key)) {
+            return false;
+        }
+        if (current.generation != SequenceKeyTracking.UNTRACKED && current.generation == tracking.generation()) {
+            return true;
+        }
+        return nanoClock.getAsLong() - current.observedNanos <= maxStalenessNanos;
+    }
+
+    private static final class Observation {
+        final String key;
+        final long value;
+        final long observedNanos;
+        // Tracking generation the value was read at; UNTRACKED when Redis will not invalidate it
+        final long generation;
+
+        Observation(String key, long value, long observedNanos, long generation) {
+            this.key = key;
+            this.value = value;
+            this.observedNanos = observedNanos;
+            this.generation = generation;
+        }
+    }
+}
\ No newline at end of file
@@ -1,76 +1,346 @@
 package com.kakaobank.numbering.service;
 
+import com.kakaobank.numbering.audit.AuditLog;
+import com.kakaobank.numbering.config.GuidProperties;
 import com.kakaobank.numbering.exception.GuidGenerationException;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
 
 @Service
 public class GuidService {
-    
+
     private static final Logger log = LoggerFactory.getLogger(GuidService.class);
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
-    private static final String DEFAULT_SERVER_ID = "SV01";
     private static final int MAX_COUNTER = 10000;
-    private final AtomicInteger counter = new AtomicInteger(0);
+    public static final int MAX_BATCH_SIZE = MAX_COUNTER / 2;
+
+    private static final int GUID_LENGTH = 30;
+    private static final int TIMESTAMP_LENGTH = 17;
+    // Timestamp (17) + ServerId (4) + ProcessId (5)
+    private static final int PREFIX_LENGTH = 26;
+
+    // State layout: [epoch millis: 42][start block: 8][counter: 14]
+    private static final int COUNTER_BITS = 14;
+    private static final int BLOCK_BITS = 8;
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long BLOCK_MASK = (1L << BLOCK_BITS) - 1;
+    private static final int MILLIS_SHIFT = COUNTER_BITS + BLOCK_BITS;
+    // A stripe needs room for a full chunk on top of the block rounding
+    private static final int MIN_STRIPE_SIZE = 2 * BLOCK_SIZE;
+    // Longs from one stripe state to the next: 128 bytes, so neighbouring states share neither
+    // a cache line nor a prefetched line pair
+    private static final int STRIPE_PADDING = 16;
+    // Never a valid reservation: millis are positive
+    private static final long EXHAUSTED = -1;
+    // Longest wait for room: a full counter clears within a millisecond unless the clock moved back
+    private static final long MAX_EXHAUSTED_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i * 2] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    // The counter space is split into stripes of stripeSize values; stripe s issues
+    // s * stripeSize + its own counter, so stripes never collide and each has its own state.
+    // A stripe counter keeps counting across milliseconds, so the first value issued in each
+    // millisecond is remembered (rounded down to a block) to detect when it is exhausted.
+    private final int stripes;
+    private final int stripeSize;
+    // Counter values one millisecond may use in a stripe, measured from the start of its block
+    private final int millisBudget;
+    // Most values one reservation takes, so a reservation never waits more than a millisecond
+    private final int maxReservation;
+    private final AtomicLongArray states;
+    private final LongSupplier millisClock;
+    private final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[GUID_LENGTH]);
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final NumberingMetrics metrics;
+    private final AuditLog auditLog;
+    private final NodeIdentity nodeIdentity;
     private final String serverId;
     private final String processId;
-    
+    private final byte[] nodeBytes;
+    private volatile TimestampPrefix cachedPrefix;
+
     public GuidService() {
-        this.serverId = initializeServerId();
-        this.processId = initializeProcessId();
-        log.info("GuidService initialized - ServerId: {}, ProcessId: {}", serverId, processId);
+        this(new NodeIdentity(), NumberingMetrics.noop());
+    }
+
+    public GuidService(NodeIdentity nodeIdentity, NumberingMetrics metrics) {
+        this(nodeIdentity, metrics, AuditLog.disabled());
+    }
+
+    public GuidService(NodeIdentity nodeIdentity, NumberingMetrics metrics, AuditLog auditLog) {
+        this(nodeIdentity, metrics, auditLog, new GuidProperties());
+    }
+
+    @Autowired
+    public GuidService(NodeIdentity nodeIdentity, NumberingMetrics metrics, AuditLog auditLog,
+                       GuidProperties properties) {
+        this(nodeIdentity, metrics, auditLog, properties, System::currentTimeMillis);
+    }
+
+    GuidService(NodeIdentity nodeIdentity, NumberingMetrics metrics, AuditLog auditLog,
+                GuidProperties properties, LongSupplier millisClock) {
+        this.stripes = properties.getCounterStripes();
+        if (stripes < 1 || MAX_COUNTER % stripes != 0 || MAX_COUNTER / stripes < MIN_STRIPE_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                "GUID counter stripes must divide %d into ranges of at least %d, got %d",
+                MAX_COUNTER, MIN_STRIPE_SIZE, stripes));
+        }
+        this.stripeSize = MAX_COUNTER / stripes;
+        this.millisBudget = stripeSize - BLOCK_SIZE;
+        this.maxReservation = stripeSize / 2;
+        this.states = new AtomicLongArray((stripes + 1) * STRIPE_PADDING);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            states.set(stateIndex(stripe), stripeSize - 1);
+        }
+        this.millisClock = millisClock;
+        this.metrics = metrics;
+        this.auditLog = auditLog;
+        this.nodeIdentity = nodeIdentity;
+        this.serverId = nodeIdentity.getServerId();
+        this.processId = nodeIdentity.getProcessId();
+        validateNodeFormat(serverId + processId);
+        this.nodeBytes = (serverId + processId).getBytes(StandardCharsets.ISO_8859_1);
+        log.info("GuidService initialized - ServerId: {}, ProcessId: {}, counter stripes: {}",
+            serverId, processId, stripes);
     }
-    
+
     public String generateGuid() {
-        // Timestamp (17 digits) - millisecond precision
-        String timestamp = generateTimestamp();
-        
-        // Counter (4 digits) with automatic overflow handling
-        String counterStr = generateCounter();
-        
-        String guid = timestamp + serverId + processId + counterStr;
-        
-        // Validate GUID format (30 characters)
-        validateGuidFormat(guid);
-        
-        log.debug("Generated GUID: {}", guid);
+        long startNanos = System.nanoTime();
+        nodeIdentity.ensureLeaseHeld();
+        String guid = nextGuid();
+
+        auditLog.guid(guid);
+        metrics.recordGuid(startNanos);
         return guid;
     }
-    
-    private String generateTimestamp() {
-        LocalDateTime now = LocalDateTime.now();
-        return now.format(TIMESTAMP_FORMATTER);
-    }
-    
-    private String initializeServerId() {
-        String envServerId = System.getenv("SERVER_ID");
-        if (envServerId != null && !envServerId.trim().isEmpty()) {
-            if (envServerId.length() == 4) {
-                return envServerId;
+
+    /**
+     * Issues a GUID without auditing or timing it, for GUIDs that are never handed out
+     * ({@link StartupWarmup}).
+     */
+    String nextGuid() {
+        long issued = reserveCounters(1);
+
+        byte[] buffer = buffers.get();
+        writeGuid(buffer, prefixFor(issued >>> MILLIS_SHIFT), (int) (issued & COUNTER_MASK));
+        return new String(buffer, 0, GUID_LENGTH, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Generates {@code count} GUIDs from one counter reservation within a single millisecond.
+     * The batch size is capped well below the per-millisecond budget so a batch never waits
+     * more than one millisecond for room. With several stripes a batch larger than half a
+     * stripe is reserved in parts, each with its own millisecond and stripe, so the batch is
+     * audited as one record per run of consecutive GUIDs.
+     */
+    public String[] generateGuids(int count) {
+        if (count < 1 || count > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException(
+                String.format("Batch count must be between 1 and %d, got %d", MAX_BATCH_SIZE, count));
+        }
+        nodeIdentity.ensureLeaseHeld();
+        return issueGuids(count, true);
+    }
+
+    /**
+     * Issues a batch without auditing it, like {@link #nextGuid()}.
+     */
+    String[] nextGuids(int count) {
+        return issueGuids(count, false);
+    }
+
+    private String[] issueGuids(int count, boolean audited) {
+        String[] guids = new String[count];
+        byte[] buffer = buffers.get();
+        for (int i = 0; i < count; ) {
+            int reserved = Math.min(count - i, maxReservation);
+            long issued = reserveCounters(reserved);
+            byte[] prefix = prefixFor(issued >>> MILLIS_SHIFT);
+            int last = (int) (issued & COUNTER_MASK);
+            int base = last - last % stripeSize;
+            int counter = last - base - reserved + 1;
+            if (counter < 0) {
+                counter += stripeSize;
+            }
+            int run = i;
+            for (int end = i + reserved; i < end; i++) {
+                writeGuid(buffer, prefix, base + counter);
+                guids[i] = new String(buffer, 0, GUID_LENGTH, StandardCharsets.ISO_8859_1);
+                if (counter + 1 == stripeSize) {
+                    // Wrapping to the start of the stripe ends a run of consecutive GUIDs
+                    counter = 0;
+                    if (audited) {
+                        auditLog.guids(guids[run], i + 1 - run);
+                    }
+                    run = i + 1;
+                } else {
+                    counter++;
+                }
+            }
+            if (audited && run < i) {
+                auditLog.guids(guids[run], i - run);
             }
-            return String.format("%-4s", envServerId).substring(0, 4);
         }
-        return DEFAULT_SERVER_ID;
-    }
-    
-    private String initializeProcessId() {
-        long pid = ProcessHandle.current().pid();
-        return String.format("%05d", pid % 100000);
-    }
-    
-    private String generateCounter() {
-        int count = counter.getAndUpdate(current -> (current + 1) % MAX_COUNTER);
-        return String.format("%04d", count);
-    }
-    
-    private void validateGuidFormat(String guid) {
-        if (guid == null || guid.length() != 30) {
-            throw new GuidGenerationException("Invalid GUID format: expected 30 characters, got " + 
-                (guid == null ? "null" : guid.length()));
+        return guids;
+    }
+
+    /**
+     * Stripe the calling thread starts with. Virtual threads get a new ID per request, so they
+     * spread over the stripes as well.
+     */
+    private int homeStripe() {
+        return stripes == 1 ? 0 : (int) (Thread.currentThread().threadId() % stripes);
+    }
+
+    private static int stateIndex(int stripe) {
+        // Padding before the first state too, away from the array header and other objects
+        return (stripe + 1) * STRIPE_PADDING;
+    }
+
+    /**
+     * Reserves {@code count} consecutive counter values within one millisecond and returns the
+     * millisecond and the last reserved value, in the state layout without the block field.
+     * Starts with the thread's own stripe and moves on to the next ones when it has no room
+     * left, so one busy thread is not held to a single stripe; waits for the next millisecond
+     * only when no stripe has room. After the clock steps back the counters stay on the last
+     * millisecond seen, so the wait is bounded and the request fails instead of spinning until
+     * the clock catches up.
+     */
+    private long reserveCounters(int count) {
+        int home = homeStripe();
+        long exhaustedSince = 0;
+        boolean exhausted = false;
+        while (true) {
+            long now = millisClock.getAsLong();
+            for (int i = 0; i < stripes; i++) {
+                int stripe = home + i < stripes ? home + i : home + i - stripes;
+                long issued = tryReserve(stripe, count, now);
+                if (issued != EXHAUSTED) {
+                    return issued;
+                }
+            }
+            if (!exhausted) {
+                exhausted = true;
+                exhaustedSince = System.nanoTime();
+                metrics.guidCounterExhausted();
+            } else if (System.nanoTime() - exhaustedSince > MAX_EXHAUSTED_WAIT_NANOS) {
+                throw new GuidGenerationException(
+                    "GUID counter exhausted and the clock has not advanced; it may have been set back");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Reserves {@code count} consecutive counter values of one stripe within one millisecond,
+     * or returns {@link #EXHAUSTED} when the stripe has no room left in it.
+     */
+    private long tryReserve(int stripe, int count, long now) {
+        int index = stateIndex(stripe);
+        while (true) {
+            long previous = states.get(index);
+            long previousMillis = previous >>> MILLIS_SHIFT;
+            int previousCounter = (int) (previous & COUNTER_MASK);
+            int first = previousCounter + 1 == stripeSize ? 0 : previousCounter + 1;
+            int last = (first + count - 1) % stripeSize;
+
+            long next;
+            if (now > previousMillis) {
+                next = (now << MILLIS_SHIFT) | ((long) (first >>> BLOCK_SHIFT) << COUNTER_BITS) | last;
+            } else {
+                // Same millisecond, or the clock moved back: stay on the previous millisecond
+                int blockStart = (int) ((previous >>> COUNTER_BITS) & BLOCK_MASK) << BLOCK_SHIFT;
+                // Measured to the first value and extended by count: a span taken modulo
+                // the stripe size at the last value would wrap for large batches
+                int span = first - blockStart;
+                if (span < 0) {
+                    span += stripeSize;
+                }
+                span += count - 1;
+                if (span >= millisBudget) {
+                    return EXHAUSTED;
+                }
+                next = (previous & ~COUNTER_MASK) | last;
+            }
+
+            if (states.compareAndSet(index, previous, next)) {
+                return (next >>> MILLIS_SHIFT << MILLIS_SHIFT) | (stripe * stripeSize + last);
+            }
+        }
+    }
+
+    private void writeGuid(byte[] buffer, byte[] prefix, int counter) {
+        System.arraycopy(prefix, 0, buffer, 0, PREFIX_LENGTH);
+        writePair(buffer, PREFIX_LENGTH, counter / 100);
+        writePair(buffer, PREFIX_LENGTH + 2, counter % 100);
+    }
+
+    private byte[] prefixFor(long millis) {
+        TimestampPrefix prefix = cachedPrefix;
+        if (prefix == null || prefix.millis != millis) {
+            prefix = new TimestampPrefix(millis, buildPrefix(millis));
+            cachedPrefix = prefix;
+        }
+        return prefix.bytes;
+    }
+
+    private byte[] buildPrefix(long millis) {
+        // yyyyMMddHHmmssSSS in the system time zone, followed by ServerId and ProcessId
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+        byte[] prefix = new byte[PREFIX_LENGTH];
+        writePair(prefix, 0, time.getYear() / 100);
+        writePair(prefix, 2, time.getYear() % 100);
+        writePair(prefix, 4, time.getMonthValue());
+        writePair(prefix, 6, time.getDayOfMonth());
+        writePair(prefix, 8, time.getHour());
+        writePair(prefix, 10, time.getMinute());
+        writePair(prefix, 12, time.getSecond());
+        int millisOfSecond = (int) Math.floorMod(millis, 1000L);
+        prefix[14] = (byte) ('0' + millisOfSecond / 100);
+        writePair(prefix, 15, millisOfSecond % 100);
+        System.arraycopy(nodeBytes, 0, prefix, TIMESTAMP_LENGTH, nodeBytes.length);
+        return prefix;
+    }
+
+    private static void writePair(byte[] buffer, int offset, int value) {
+        buffer[offset] = DIGIT_PAIRS[value * 2];
+        buffer[offset + 1] = DIGIT_PAIRS[value * 2 + 1];
+    }
+
+    private void validateNodeFormat(String node) {
+        // GUIDs are assembled as single-byte characters, so the node part must be ASCII
+        if (node.length() != PREFIX_LENGTH - TIMESTAMP_LENGTH || !node.chars().allMatch(c -> c < 0x80)) {
+            throw new GuidGenerationException("Invalid GUID node identity: expected 9 ASCII characters, got '"
+                + node + "'");
+        }
+    }
+
+    private static final class TimestampPrefix {
+        final long millis;
+        final byte[] bytes;
+
+        TimestampPrefix(long millis, byte[] bytes) {
+            this.millis = millis;
+            this.bytes = bytes;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+package com.kakaobank.numbering.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakaobank.numbering.audit.AuditLog;
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.exception.RedisOperationException;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Independent sequences per namespace (accounts, transfers, cards, ...), each with its own
+ * reset period, maximum value and key prefix.
+ * <p>
+ * Per-namespace hot state (resolved settings, the current key string and an optional leased
+ * segment) lives in a size-bounded cache, so the heap stays flat however many namespaces are used.
+ */
+@Service
+public class NamespaceSequenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(NamespaceSequenceService.class);
+    // Leading letter: an all-digit name would share its key with the daily sequence, seq:yyyyMMdd
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z][a-z0-9_-]{0,31}");
+    // Path segments already taken by /api/v1/sequence/batch, /current and /stream
+    private static final Set<String> RESERVED_NAMES = Set.of("batch", "current", "stream");
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SequenceProperties properties;
+    private final NumberingMetrics metrics;
+    private final SequenceIncrementScript incrementScript;
+    private final AuditLog auditLog;
+    private final ZoneId zone = ZoneId.systemDefault();
+    // Shared by every leased namespace so the thread count does not grow with namespaces
+    private final ExecutorService prefetchExecutor;
+    private final Cache<String, NamespaceState> states;
+
+    public NamespaceSequenceService(RedisTemplate<String, String> redisTemplate, SequenceProperties properties,
+                                    NumberingMetrics metrics, SequenceIncrementScript incrementScript) {
+        this(redisTemplate, properties, metrics, incrementScript, AuditLog.disabled());
+    }
+
+    @Autowired
+    public NamespaceSequenceService(RedisTemplate<String, String> redisTemplate, SequenceProperties properties,
+                                    NumberingMetrics metrics, SequenceIncrementScript incrementScript,
+                                    AuditLog auditLog) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.incrementScript = incrementScript;
+        this.auditLog = auditLog;
+        this.prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "namespace-segment-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.states = Caffeine.newBuilder()
+            .maximumSize(properties.getNamespaceCacheSize())
+            .<String, NamespaceState>removalListener((name, state, cause) -> {
+                if (state != null) {
+                    state.shutdown();
+                }
+            })
+            .build();
+        log.info("NamespaceSequenceService initialized - Declared namespaces: {}", properties.getNamespaces().keySet());
+    }
+
+    public Long generateSequence(String name) {
+        long startNanos = System.nanoTime();
+        NamespaceState state = stateOf(name);
+        String key = state.currentKey();
+
+        try {
+            long sequence = state.allocator != null
+                ? state.allocator.next(key)
+                : state.increment(key);
+
+            auditLog.namespaceSequence(name, sequence);
+            metrics.recordNamespaceSequence(startNanos);
+            return sequence;
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis connection failed while generating sequence for namespace: {}", name, e);
+            throw new RedisOperationException("Unable to generate sequence: Redis connection failed", e);
+        } catch (DataAccessException e) {
+            // A timed-out or failed Redis call is Redis being unavailable, not a sequence conflict
+            throw new RedisOperationException("Unable to generate sequence: Redis call failed", e);
+        } catch (SequenceGenerationException e) {
+            log.error("Sequence generation failed for namespace: {}", name, e);
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error while generating sequence for namespace: {}", name, e);
+            throw new SequenceGenerationException("Unable to generate sequence", e);
+        }
+    }
+
+    public Long getCurrentSequence(String name) {
+        String key = stateOf(name).currentKey();
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            throw new RedisOperationException("Unable to read current sequence: Redis call failed", e);
+        }
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        states.invalidateAll();
+        prefetchExecutor.shutdownNow();
+    }
+
+    private NamespaceState stateOf(String name) {
+        NamespaceState state = states.getIfPresent(name);
+        if (state != null) {
+            return state;
+        }
+        SequenceProperties.Namespace settings = resolveSettings(name);
+        return states.get(name, n -> new NamespaceState(n, settings));
+    }
+
+    private SequenceProperties.Namespace resolveSettings(String name) {
+        if (name == null || !NAME_PATTERN.matcher(name).matches() || RESERVED_NAMES.contains(name)) {
+            throw new InvalidRequestException("Invalid sequence namespace: " + name);
+        }
+        SequenceProperties.Namespace settings = properties.getNamespaces().get(name);
+        if (settings != null) {
+            return settings;
+        }
+        if (properties.isAllowUndeclaredNamespaces()) {
+            return new SequenceProperties.Namespace();
+        }
+        throw new InvalidRequestException("Unknown sequence namespace: " + name);
+    }
+
+    private final class NamespaceState {
+        final String name;
+        final SequenceProperties.ResetPeriod reset;
+        final long maxValue;
+        final String maxValueArg;
+        final String keyPrefix;
+        // Null unless the namespace is leased
+        final SequenceAllocator allocator;
+        volatile PeriodKey periodKey;
+
+        NamespaceState(String name, SequenceProperties.Namespace settings) {
+            this.name = name;
+            this.reset = settings.getReset();
+            this.maxValue = settings.getMaxValue();
+            this.maxValueArg = Long.toString(maxValue);
+            this.keyPrefix = settings.getKeyPrefix() != null ? settings.getKeyPrefix() : "seq:" + name;
+            this.allocator = settings.isLeased()
+                ? new SegmentSequenceAllocator(this::reserveRange, maxValue, properties.getSegment(),
+                    prefetchExecutor, false)
+                : null;
+        }
+
+        String currentKey() {
+            long now = System.currentTimeMillis();
+            PeriodKey current = periodKey;
+            if (current == null || now >= current.validUntil) {
+                current = resolveKey();
+                periodKey = current;
+            }
+            return current.key;
+        }
+
+        long increment(String key) {
+            PeriodKey target = periodKeyFor(key);
+            long startNanos = System.nanoTime();
+            long sequence = incrementScript.incrementBy(target.keys, SequenceIncrementScript.ONE, maxValueArg,
+                target.expireAtArg, SequenceIncrementScript.STRICT);
+            metrics.recordRedisIncrement(startNanos);
+            return sequence;
+        }
+
+        long reserveRange(String key, long count) {
+            PeriodKey target = periodKeyFor(key);
+            long startNanos = System.nanoTime();
+            long end = incrementScript.incrementBy(target.keys, Long.toString(count), maxValueArg,
+                target.expireAtArg, SequenceIncrementScript.LENIENT);
+            metrics.recordRedisIncrementBy(startNanos);
+            return end;
+        }
+
+        void shutdown() {
+            if (allocator != null) {
+                allocator.shutdown();
+            }
+        }
+
+        private PeriodKey periodKeyFor(String key) {
+            PeriodKey current = periodKey;
+            if (current != null && current.key.equals(key)) {
+                return current;
+            }
+            // A key from an earlier period, still held by a leased segment. It may have expired and
+            // be recreated by this call, so it gets the expiry of its own period again.
+            return keyFor(periodOf(key));
+        }
+
+        private PeriodKey resolveKey() {
+            return keyFor(LocalDate.now(zone));
+        }
+
+        private PeriodKey keyFor(LocalDate date) {
+            switch (reset) {
+                case DAILY:
+                    return new PeriodKey(keyPrefix + ":" + date.format(DAY_FORMATTER),
+                        epochMillis(date.plusDays(1)));
+                case MONTHLY:
+                    return new PeriodKey(keyPrefix + ":" + date.format(MONTH_FORMATTER),
+                        epochMillis(date.withDayOfMonth(1).plusMonths(1)));
+                default:
+                    return new PeriodKey(keyPrefix, Long.MAX_VALUE);
+            }
+        }
+
+        private LocalDate periodOf(String key) {
+            String period = key.substring(key.lastIndexOf(':') + 1);
+            switch (reset) {
+                case DAILY:
+                    return LocalDate.parse(period, DAY_FORMATTER);
+                case MONTHLY:
+                    return YearMonth.parse(period, MONTH_FORMATTER).atDay(1);
+                default:
+                    return LocalDate.now(zone);
+            }
+        }
+
+        private long epochMillis(LocalDate date) {
+            return date.atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+
+    private static final class PeriodKey {
+        final String key;
+        final List<String> keys;
+        final long validUntil;
+        final String expireAtArg;
+
+        PeriodKey(String key, long validUntil) {
+            this.key = key;
+            this.keys = List.of(key);
+            this.validUntil = validUntil;
+            this.expireAtArg = validUntil == Long.MAX_VALUE
+                ? SequenceIncrementScript.NO_EXPIRY
+                : Long.toString(validUntil);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.exception.RedisOperationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Identity of this node, shared by the GUID and numeric ID generators.
+ * ServerId comes from the {@code SERVER_ID} environment variable and ProcessId from the pid,
+ * or from the leased worker ID when {@link WorkerIdLease} is enabled.
+ */
+@Component
+public class NodeIdentity {
+    
+    private static final String DEFAULT_SERVER_ID = "SV01";
+    
+    private final String serverId;
+    private final String processId;
+    private final WorkerIdLease lease;
+    
+    public NodeIdentity() {
+        this(WorkerIdLease.disabled());
+    }
+    
+    @Autowired
+    public NodeIdentity(WorkerIdLease lease) {
+        this(System.getenv("SERVER_ID"), ProcessHandle.current().pid(), lease);
+    }
+    
+    NodeIdentity(String envServerId, long pid) {
+        this(envServerId, pid, WorkerIdLease.disabled());
+    }
+    
+    NodeIdentity(String envServerId, long pid, WorkerIdLease lease) {
+        this.serverId = initializeServerId(envServerId);
+        // Every container runs as pid 1, so a leased worker ID takes the pid's place
+        this.processId = String.format("%05d", lease.isEnabled() ? lease.getWorkerId() : pid % 100000);
+        this.lease = lease;
+    }
+    
+    public String getServerId() {
+        return serverId;
+    }
+    
+    public String getProcessId() {
+        return processId;
+    }
+    
+    /**
+     * Folds ServerId and ProcessId into a node number of the given bit width. A leased worker
+     * ID that fits the width is used as is, which keeps leased nodes from colliding.
+     * <p>
+     * Without a lease the number is a hash and is not unique: with 10 bits, about 38 nodes
+     * already share a number with even odds. Callers that need unique node numbers check
+     * {@link #hasLeasedNumericId(int)} or take an explicitly configured number.
+     */
+    public int numericId(int bits) {
+        if (hasLeasedNumericId(bits)) {
+            return lease.getWorkerId();
+        }
+        return Math.floorMod((serverId + processId).hashCode(), 1 << bits);
+    }
+    
+    /**
+     * Whether {@link #numericId(int)} is the leased worker ID, unique among the leasing nodes.
+     */
+    public boolean hasLeasedNumericId(int bits) {
+        return lease.isEnabled() && lease.getWorkerId() < 1 << bits;
+    }
+    
+    /**
+     * Fails while this node does not hold its worker ID lease, since another node may then
+     * be issuing IDs under the same identity.
+     */
+    public void ensureLeaseHeld() {
+        if (!lease.isHeld()) {
+            throw new RedisOperationException("Worker ID lease is not held, refusing to issue IDs");
+        }
+    }
+    
+    private static String initializeServerId(String envServerId) {
+        if (envServerId != null && !envServerId.trim().isEmpty()) {
+            if (envServerId.length() == 4) {
+                return envServerId;
+            }
+            return String.format("%-4s", envServerId).substring(0, 4);
+        }
+        return DEFAULT_SERVER_ID;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.audit.AuditLog;
+import com.kakaobank.numbering.config.NumericIdProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.exception.NumericIdUnavailableException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues time-ordered 64-bit IDs: [sign: 1][timestamp: 41][node: 10][sequence: 12].
+ * The timestamp counts milliseconds from {@link #EPOCH_MILLIS}, which lasts about 69 years.
+ * <p>
+ * IDs are only unique if every node has its own node number, so no ID is issued unless the
+ * number is configured ({@code numbering.numeric-id.node-id}) or comes from the worker ID
+ * lease. A number hashed from ServerId and ProcessId must be allowed explicitly. Without a
+ * number the rest of the service still starts and only numeric ID requests are refused.
+ */
+@Service
+public class NumericIdService {
+    
+    private static final Logger log = LoggerFactory.getLogger(NumericIdService.class);
+    
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+    private static final int NODE_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + NODE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    // Node number when none is unique to this node
+    private static final int NO_NODE_ID = -1;
+    
+    private final NumberingMetrics metrics;
+    private final AuditLog auditLog;
+    private final NodeIdentity nodeIdentity;
+    private final boolean available;
+    private final long nodeBits;
+    // Last issued ID; the node field never changes, so the next ID in the same
+    // millisecond is simply lastId + 1
+    private final AtomicLong lastId;
+    
+    public NumericIdService() {
+        this(new NodeIdentity());
+    }
+    
+    public NumericIdService(NodeIdentity nodeIdentity) {
+        this(nodeIdentity, NumberingMetrics.noop());
+    }
+    
+    public NumericIdService(NodeIdentity nodeIdentity, NumberingMetrics metrics) {
+        this(nodeIdentity, metrics, AuditLog.disabled());
+    }
+    
+    public NumericIdService(NodeIdentity nodeIdentity, NumberingMetrics metrics, AuditLog auditLog) {
+        this(nodeIdentity, metrics, auditLog, derivedNodeIdAllowed());
+    }
+    
+    @Autowired
+    public NumericIdService(NodeIdentity nodeIdentity, NumberingMetrics metrics, AuditLog auditLog,
+                            NumericIdProperties properties) {
+        this.metrics = metrics;
+        this.auditLog = auditLog;
+        this.nodeIdentity = nodeIdentity;
+        int nodeId = resolveNodeId(nodeIdentity, properties);
+        this.available = nodeId != NO_NODE_ID;
+        this.nodeBits = available ? (long) nodeId << NODE_SHIFT : 0;
+        this.lastId = new AtomicLong(nodeBits);
+        if (available) {
+            log.info("NumericIdService initialized - NodeId: {} (ServerId: {}, ProcessId: {})",
+                nodeId, nodeIdentity.getServerId(), nodeIdentity.getProcessId());
+        } else {
+            log.error("Numeric IDs are disabled: no unique node number. Set numbering.numeric-id.node-id "
+                + "or enable the worker ID lease with at most {} workers", NODE_MASK + 1);
+        }
+    }
+    
+    public long generateId() {
+        if (!available) {
+            throw NumericIdUnavailableException.NO_NODE_ID;
+        }
+        long startNanos = System.nanoTime();
+        nodeIdentity.ensureLeaseHeld();
+        while (true) {
+            long last = lastId.get();
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            
+            long next;
+            if (now > last >>> TIMESTAMP_SHIFT) {
+                next = (now << TIMESTAMP_SHIFT) | nodeBits;
+            } else if ((last & SEQUENCE_MASK) != SEQUENCE_MASK) {
+                // Same millisecond, or the clock moved back: keep the last timestamp
+                next = last + 1;
+            } else {
+                // Sequence exhausted for this millisecond
+                Thread.onSpinWait();
+                continue;
+            }
+            
+            if (lastId.compareAndSet(last, next)) {
+                auditLog.numericId(next);
+                metrics.recordNumericId(startNanos);
+                return next;
+            }
+        }
+    }
+    
+    private static int resolveNodeId(NodeIdentity nodeIdentity, NumericIdProperties properties) {
+        Integer configured = properties.getNodeId();
+        if (configured != null) {
+            if (configured < 0 || configured > NODE_MASK) {
+                throw new IllegalArgumentException(
+                    "numbering.numeric-id.node-id must be between 0 and " + NODE_MASK + ", got " + configured);
+            }
+            return configured;
+        }
+        if (nodeIdentity.hasLeasedNumericId(NODE_BITS)) {
+            return nodeIdentity.numericId(NODE_BITS);
+        }
+        if (!properties.isAllowDerivedNodeId()) {
+            return NO_NODE_ID;
+        }
+        log.warn("Numeric ID node number is hashed from ServerId and ProcessId; two nodes may share it "
+            + "and issue duplicate IDs");
+        return nodeIdentity.numericId(NODE_BITS);
+    }
+    
+    private static NumericIdProperties derivedNodeIdAllowed() {
+        NumericIdProperties properties = new NumericIdProperties();
+        properties.setAllowDerivedNodeId(true);
+        return properties;
+    }
+    
+    public static long timestampOf(long id) {
+        if (id < 0) {
+            throw new InvalidRequestException("Invalid numeric ID: " + id);
+        }
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+    
+    public static int nodeOf(long id) {
+        return (int) ((id >>> NODE_SHIFT) & NODE_MASK);
+    }
+    
+    public static int sequenceOf(long id) {
+        return (int) (id & SEQUENCE_MASK);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.RedisGuardProperties;
+import com.kakaobank.numbering.exception.RedisRejectedException;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker and adaptive concurrency limit in front of the sequence Redis calls.
+ * <p>
+ * The closed circuit counts failed and slow calls per window of {@code window-size} calls and
+ * opens once they reach the failure rate threshold. An open circuit rejects calls without
+ * touching Redis until {@code open-duration} has passed, then lets {@code half-open-probes}
+ * calls through: if all succeed it closes, if one fails it opens again. Independently, calls
+ * beyond the {@link AdaptiveConcurrencyLimit} are rejected, so request threads stop piling up
+ * behind a slow Redis well before its timeout. Rejections throw a shared
+ * {@link RedisRejectedException} and are answered with a prebuilt 503.
+ * <p>
+ * A sequence over its maximum value is Redis answering, not failing, and counts as a success.
+ */
+@Component
+public class RedisCallGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCallGuard.class);
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final int windowSize;
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final AdaptiveConcurrencyLimit limit;
+    private final NumberingMetrics metrics;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowCalls = new AtomicInteger();
+    private final AtomicInteger windowFailures = new AtomicInteger();
+    private final AtomicInteger probesStarted = new AtomicInteger();
+    private final AtomicInteger probesSucceeded = new AtomicInteger();
+    private volatile State state = State.CLOSED;
+    private volatile long openUntilNanos;
+
+    @Autowired
+    public RedisCallGuard(RedisGuardProperties properties, NumberingMetrics metrics) {
+        this(properties, metrics, System::nanoTime);
+    }
+
+    RedisCallGuard(RedisGuardProperties properties, NumberingMetrics metrics, LongSupplier nanoClock) {
+        this.enabled = properties.isEnabled();
+        this.windowSize = Math.max(1, properties.getWindowSize());
+        this.failureThreshold = Math.max(1, (int) Math.ceil(windowSize * properties.getFailureRateThreshold()));
+        this.slowCallNanos = properties.getSlowCallThreshold().toNanos();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenProbes = Math.max(1, properties.getHalfOpenProbes());
+        this.limit = new AdaptiveConcurrencyLimit(properties.getConcurrency());
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * A guard that lets every call through, for services constructed outside the Spring context.
+     */
+    public static RedisCallGuard disabled() {
+        RedisGuardProperties properties = new RedisGuardProperties();
+        properties.setEnabled(false);
+        return new RedisCallGuard(properties, NumberingMetrics.noop());
+    }
+
+    /**
+     * Runs {@code redisCall} unless the circuit is open or the concurrency limit is reached.
+     */
+    public long call(LongSupplier redisCall) {
+        if (!enabled) {
+            return redisCall.getAsLong();
+        }
+        boolean probe = admit();
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            if (probe) {
+                probesStarted.decrementAndGet();
+            }
+            metrics.redisLimitRejected();
+            throw RedisRejectedException.LIMIT_EXCEEDED;
+        }
+        long startNanos = nanoClock.getAsLong();
+        boolean failed = true;
+        try {
+            long result = redisCall.getAsLong();
+            failed = false;
+            return result;
+        } catch (SequenceGenerationException e) {
+            failed = false;
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            long latency = nanoClock.getAsLong() - startNanos;
+            limit.onSample(latency);
+            onResult(probe, failed || latency > slowCallNanos);
+        }
+    }
+
+    State state() {
+        return state;
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    /**
+     * Returns whether the call is a half-open probe; throws when the circuit rejects it.
+     */
+    private boolean admit() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if ((current == State.OPEN && !halfOpen()) || probesStarted.incrementAndGet() > halfOpenProbes) {
+            metrics.redisCircuitRejected();
+            throw RedisRejectedException.CIRCUIT_OPEN;
+        }
+        return true;
+    }
+
+    private void onResult(boolean probe, boolean failed) {
+        if (probe) {
+            if (failed) {
+                open(State.HALF_OPEN);
+            } else if (probesSucceeded.incrementAndGet() >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            // Started before the circuit opened
+            return;
+        }
+        int failures = failed ? windowFailures.incrementAndGet() : windowFailures.get();
+        if (failures >= failureThreshold) {
+            open(State.CLOSED);
+        } else if (windowCalls.incrementAndGet() >= windowSize) {
+            resetWindow();
+        }
+    }
+
+    private synchronized void open(State from) {
+        if (state != from) {
+            return;
+        }
+        openUntilNanos = nanoClock.getAsLong() + openNanos;
+        state = State.OPEN;
+        log.warn("Redis circuit opened after {} - Rejecting calls for {} ms",
+            from == State.CLOSED ? "failure rate threshold" : "failed probe", openNanos / 1_000_000);
+    }
+
+    /**
+     * Moves an open circuit whose wait is over to half-open; returns whether it is half-open.
+     */
+    private synchronized boolean halfOpen() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openUntilNanos < 0) {
+                return false;
+            }
+            probesStarted.set(0);
+            probesSucceeded.set(0);
+            state = State.HALF_OPEN;
+            log.info("Redis circuit half-open - Probing with {} calls", halfOpenProbes);
+        }
+        return state == State.HALF_OPEN;
+    }
+
+    private synchronized void close() {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        windowCalls.set(0);
+        windowFailures.set(0);
+        state = State.CLOSED;
+        log.info("Redis circuit closed");
+    }
+
+    private synchronized void resetWindow() {
+        if (windowCalls.get() >= windowSize) {
+            windowCalls.set(0);
+            windowFailures.set(0);
+        }
+    }
+}
\ No newline at end of file
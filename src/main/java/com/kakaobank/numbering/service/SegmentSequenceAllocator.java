@@ -0,0 +1,183 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Issues sequence values from locally leased ranges (segments).
+ * <p>
+ * Each segment is reserved with one INCRBY on the daily key and handed out through a lock-free
+ * cursor. Once {@code prefetchRatio} of a segment is consumed the next one is fetched in the
+ * background, so request threads only touch Redis when both buffers run dry. The step size
+ * follows the observed request rate so a segment lasts roughly {@code targetRefillInterval}.
+ */
+class SegmentSequenceAllocator implements SequenceAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentSequenceAllocator.class);
+
+    private final RangeReserver reserver;
+    private final long maxValue;
+    private final long minStep;
+    private final long maxStep;
+    private final double prefetchRatio;
+    private final long targetRefillNanos;
+    private final ExecutorService prefetchExecutor;
+    private final boolean ownsExecutor;
+
+    // Not synchronized: a virtual thread blocked on Redis inside a monitor would pin its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Segment current;
+    private volatile long step;
+    // Guarded by lock
+    private CompletableFuture<Segment> pending;
+
+    SegmentSequenceAllocator(RangeReserver reserver, long maxValue, SequenceProperties.Segment properties) {
+        this(reserver, maxValue, properties, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sequence-segment-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Uses {@code prefetchExecutor} for background fetches; it is shut down with this allocator
+     * only when {@code ownsExecutor} is set, so many allocators can share one thread.
+     */
+    SegmentSequenceAllocator(RangeReserver reserver, long maxValue, SequenceProperties.Segment properties,
+                             ExecutorService prefetchExecutor, boolean ownsExecutor) {
+        this.reserver = reserver;
+        this.maxValue = maxValue;
+        this.minStep = Math.max(1, properties.getMinStep());
+        this.maxStep = Math.max(minStep, properties.getMaxStep());
+        this.prefetchRatio = Math.min(Math.max(properties.getPrefetchRatio(), 0.0), 1.0);
+        this.targetRefillNanos = properties.getTargetRefillInterval().toNanos();
+        this.step = clamp(properties.getInitialStep(), minStep, maxStep);
+        this.prefetchExecutor = prefetchExecutor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    @Override
+    public long next(String key) {
+        while (true) {
+            Segment segment = current;
+            if (segment != null && segment.key.equals(key)) {
+                long value = segment.cursor.getAndIncrement();
+                if (value <= segment.end) {
+                    // Exactly one caller observes the trigger value
+                    if (value == segment.prefetchAt) {
+                        prefetch(segment);
+                    }
+                    return value;
+                }
+            }
+            advance(segment, key);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (ownsExecutor) {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
+    private void advance(Segment exhausted, String key) {
+        lock.lock();
+        try {
+            if (current != exhausted) {
+                return;
+            }
+            Segment next = takePending(key);
+            if (next == null) {
+                next = reserve(key, step);
+            }
+            current = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Segment takePending(String key) {
+        CompletableFuture<Segment> future = pending;
+        if (future == null) {
+            return null;
+        }
+        pending = null;
+        try {
+            Segment segment = future.join();
+            return segment.key.equals(key) ? segment : null;
+        } catch (CompletionException e) {
+            log.warn("Segment prefetch failed, reserving synchronously", e.getCause());
+            return null;
+        }
+    }
+
+    private void prefetch(Segment segment) {
+        long nextStep = adaptStep(segment);
+        lock.lock();
+        try {
+            if (pending != null || current != segment) {
+                return;
+            }
+            pending = CompletableFuture.supplyAsync(() -> reserve(segment.key, nextStep), prefetchExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("Segment prefetch skipped: executor is shut down");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long adaptStep(Segment segment) {
+        long consumed = segment.prefetchAt - segment.start + 1;
+        long elapsed = Math.max(System.nanoTime() - segment.leasedAt, 1L);
+        long wanted = (long) ((double) consumed * targetRefillNanos / elapsed);
+        long previous = step;
+        // At most double or halve per refill so a short burst does not swing the step
+        long adapted = clamp(wanted, Math.max(minStep, previous / 2), Math.min(maxStep, previous * 2));
+        step = adapted;
+        return adapted;
+    }
+
+    private Segment reserve(String key, long size) {
+        long end = reserver.reserve(key, size);
+        long start = end - size + 1;
+        if (start > maxValue) {
+            throw new SequenceGenerationException(
+                String.format("Sequence exceeded maximum value: %d (max: %d)", start, maxValue));
+        }
+        Segment segment = new Segment(key, start, Math.min(end, maxValue), prefetchRatio);
+        log.debug("Leased segment [{}, {}] for key: {}", segment.start, segment.end, key);
+        return segment;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static final class Segment {
+        final String key;
+        final long start;
+        final long end;
+        final long prefetchAt;
+        final long leasedAt;
+        final AtomicLong cursor;
+
+        Segment(String key, long start, long end, double prefetchRatio) {
+            this.key = key;
+            this.start = start;
+            this.end = end;
+            this.prefetchAt = start + (long) ((end - start) * prefetchRatio);
+            this.leasedAt = System.nanoTime();
+            this.cursor = new AtomicLong(start);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.kakaobank.numbering.service;
+
+/**
+ * Strategy that issues sequence values on top of ranges reserved in Redis.
+ */
+interface SequenceAllocator {
+    
+    long next(String key);
+    
+    void shutdown();
+    
+    @FunctionalInterface
+    interface RangeReserver {
+        /**
+         * Reserves {@code count} values on {@code key} and returns the last reserved value.
+         */
+        long reserve(String key, long count);
+    }
+}
\ No newline at end of file
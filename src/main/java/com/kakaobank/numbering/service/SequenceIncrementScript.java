@@ -0,0 +1,86 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Increment, range check and TTL setup for a sequence key as one server-side Lua call.
+ * The script is loaded at startup and invoked with EVALSHA (RedisTemplate falls back to
+ * EVAL if the server lost its script cache).
+ */
+@Component
+public class SequenceIncrementScript {
+    
+    private static final Logger log = LoggerFactory.getLogger(SequenceIncrementScript.class);
+    private static final RedisScript<Long> SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/sequence-incrby.lua"), Long.class);
+    private static final RedisScript<Long> FLOOR_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/sequence-floor.lua"), Long.class);
+    
+    static final String ONE = "1";
+    static final String NO_EXPIRY = "0";
+    // Whole range must fit under the maximum (single values, batches)
+    static final String STRICT = "1";
+    // Only the first value must fit; callers clip the rest (leased segments)
+    static final String LENIENT = "0";
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    
+    public SequenceIncrementScript(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+    
+    @PostConstruct
+    public void preload() {
+        try {
+            String sha = redisTemplate.execute((RedisCallback<String>) connection ->
+                connection.scriptingCommands().scriptLoad(SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            log.info("Sequence increment script loaded - SHA: {}", sha);
+        } catch (RuntimeException e) {
+            log.warn("Could not preload sequence increment script, it will be loaded on first use", e);
+        }
+    }
+    
+    /**
+     * Returns the last reserved value.
+     *
+     * @param keys      single-element list holding the sequence key
+     * @param count     number of values to reserve, as a decimal string
+     * @param maxValue  maximum sequence value, as a decimal string
+     * @param expireAt  absolute expiry in epoch millis, or {@link #NO_EXPIRY}
+     * @param mode      {@link #STRICT} or {@link #LENIENT}
+     */
+    long incrementBy(List<String> keys, String count, String maxValue, String expireAt, String mode) {
+        Long result = redisTemplate.execute(SCRIPT, keys, count, maxValue, expireAt, mode);
+        if (result == null) {
+            throw new SequenceGenerationException("Failed to generate sequence");
+        }
+        if (result < 0) {
+            throw new SequenceGenerationException(
+                String.format("Sequence exceeded maximum value: %d (max: %s)", -result, maxValue));
+        }
+        return result;
+    }
+    
+    /**
+     * Sets the key to {@code reseedTo} when it is below {@code floor} (never lowers it) and
+     * returns its value afterwards.
+     */
+    long raiseTo(List<String> keys, long floor, long reseedTo, String expireAt) {
+        Long result = redisTemplate.execute(FLOOR_SCRIPT, keys, Long.toString(floor), Long.toString(reseedTo),
+            expireAt);
+        if (result == null) {
+            throw new SequenceGenerationException("Failed to re-seed sequence");
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local record of the highest daily sequence value this node has reserved from Redis.
+ * <p>
+ * The file is memory-mapped, so a record is a few stores into the page cache and survives a
+ * process crash without a system call. Records alternate between two checksummed slots so a
+ * write torn by a crash leaves the previous one readable. A value is recorded before any of
+ * the values it covers is handed out, which is what lets Redis be raised back above it after
+ * Redis lost its data.
+ * <p>
+ * The mark covers this node only. Other nodes may have issued values above it, so a lost key
+ * is re-seeded to the mark plus {@code fleet-headroom}; with the default of 0 the journal
+ * prevents duplicates only when a single node issues from the key.
+ */
+@Component
+public class SequenceJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceJournal.class);
+    private static final long MAGIC = 0x4e554d4a524e4c31L;
+    private static final int FILE_SIZE = 4096;
+    private static final int HEADER_SIZE = 8;
+    // generation, epoch day, high-water mark, checksum
+    private static final int SLOT_SIZE = 32;
+
+    private final MappedByteBuffer buffer;
+    private final boolean sync;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by lock for writes
+    private long generation;
+    private volatile long epochDay;
+    private volatile long highWater;
+
+    @Autowired
+    public SequenceJournal(SequenceProperties properties) {
+        this(properties.getJournal().isEnabled() ? Paths.get(properties.getJournal().getPath()) : null,
+            properties.getJournal().isSync());
+    }
+
+    SequenceJournal(Path path, boolean sync) {
+        this.sync = sync;
+        this.buffer = path != null ? map(path) : null;
+        if (buffer != null) {
+            load();
+            log.info("SequenceJournal opened - Path: {}, Day: {}, HighWater: {}",
+                path, epochDay != 0 ? LocalDate.ofEpochDay(epochDay) : "-", highWater);
+        }
+    }
+
+    /**
+     * A journal that records nothing, for services constructed outside the Spring context.
+     */
+    public static SequenceJournal disabled() {
+        return new SequenceJournal(null, false);
+    }
+
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    /**
+     * Highest value recorded for the given day, or 0 when the journal holds another day.
+     */
+    long highWater(SequenceKeyRollover.DailyKey dailyKey) {
+        return epochDay == dailyKey.date.toEpochDay() ? highWater : 0L;
+    }
+
+    /**
+     * Records {@code value} as reserved on the given day's key. Lower values and earlier days
+     * than the one already recorded are ignored.
+     */
+    void record(SequenceKeyRollover.DailyKey dailyKey, long value) {
+        if (buffer == null) {
+            return;
+        }
+        long day = dailyKey.date.toEpochDay();
+        // Concurrent callers usually find a higher value already recorded
+        if (day == epochDay && value <= highWater) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (day < epochDay || (day == epochDay && value <= highWater)) {
+                return;
+            }
+            long next = generation + 1;
+            int offset = slotOffset(next);
+            buffer.putLong(offset, next);
+            buffer.putLong(offset + 8, day);
+            buffer.putLong(offset + 16, value);
+            buffer.putLong(offset + 24, checksum(next, day, value));
+            if (sync) {
+                buffer.force(offset, SLOT_SIZE);
+            }
+            generation = next;
+            epochDay = day;
+            highWater = value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    private void load() {
+        if (buffer.getLong(0) != MAGIC) {
+            buffer.putLong(0, MAGIC);
+            return;
+        }
+        for (int slot = 0; slot < 2; slot++) {
+            int offset = HEADER_SIZE + slot * SLOT_SIZE;
+            long slotGeneration = buffer.getLong(offset);
+            long day = buffer.getLong(offset + 8);
+            long value = buffer.getLong(offset + 16);
+            if (slotGeneration == 0) {
+                continue;
+            }
+            if (buffer.getLong(offset + 24) != checksum(slotGeneration, day, value)) {
+                log.warn("Ignoring torn sequence journal slot {}", slot);
+                continue;
+            }
+            if (slotGeneration > generation) {
+                generation = slotGeneration;
+                epochDay = day;
+                highWater = value;
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The mapping stays valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open sequence journal: " + path, e);
+        }
+    }
+
+    private static int slotOffset(long generation) {
+        return HEADER_SIZE + (int) (generation & 1) * SLOT_SIZE;
+    }
+
+    private static long checksum(long generation, long day, long value) {
+        long hash = MAGIC;
+        hash = (hash ^ generation) * 0x9e3779b97f4a7c15L;
+        hash = (hash ^ day) * 0x9e3779b97f4a7c15L;
+        hash = (hash ^ value) * 0x9e3779b97f4a7c15L;
+        return hash ^ (hash >>> 32);
+    }
+}
@@ -0,0 +1,128 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Supplies the daily sequence key ({@code seq:yyyyMMdd}) without formatting a date per request.
+ * <p>
+ * Today's and tomorrow's keys, together with the script arguments derived from them, are built
+ * once per day. Each lookup compares the clock against the precomputed rollover instant and
+ * promotes tomorrow's key when it passes.
+ */
+@Component
+public class SequenceKeyRollover {
+    
+    private static final Logger log = LoggerFactory.getLogger(SequenceKeyRollover.class);
+    private static final String KEY_PREFIX = "seq:";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    
+    private final Clock clock;
+    private final NumberingMetrics metrics;
+    private volatile Days days;
+    
+    public SequenceKeyRollover() {
+        this(Clock.systemDefaultZone(), NumberingMetrics.noop());
+    }
+    
+    @Autowired
+    public SequenceKeyRollover(NumberingMetrics metrics) {
+        this(Clock.systemDefaultZone(), metrics);
+    }
+    
+    SequenceKeyRollover(Clock clock, NumberingMetrics metrics) {
+        this.clock = clock;
+        this.metrics = metrics;
+        this.days = daysFrom(LocalDate.now(clock));
+    }
+    
+    public DailyKey current() {
+        Days current = days;
+        if (clock.millis() >= current.today.rolloverAt) {
+            current = roll();
+        }
+        return current.today;
+    }
+    
+    /**
+     * Maps a key handed out earlier (possibly yesterday's, still held by an allocator) back to
+     * its precomputed form.
+     */
+    DailyKey resolve(String key) {
+        Days current = days;
+        if (current.today.key.equals(key)) {
+            return current.today;
+        }
+        if (current.tomorrow.key.equals(key)) {
+            return current.tomorrow;
+        }
+        if (current.yesterday.key.equals(key)) {
+            return current.yesterday;
+        }
+        return dailyKey(LocalDate.parse(key.substring(KEY_PREFIX.length()), DATE_FORMATTER));
+    }
+    
+    private synchronized Days roll() {
+        Days current = days;
+        LocalDate today = LocalDate.now(clock);
+        if (today.equals(current.today.date)) {
+            return current;
+        }
+        Days next = today.equals(current.tomorrow.date)
+            ? new Days(current.today, current.tomorrow, dailyKey(today.plusDays(1)))
+            : daysFrom(today);
+        days = next;
+        log.info("Sequence key rolled over: {} -> {}", current.today.key, next.today.key);
+        metrics.sequenceRollover();
+        return next;
+    }
+    
+    private Days daysFrom(LocalDate today) {
+        return new Days(dailyKey(today.minusDays(1)), dailyKey(today), dailyKey(today.plusDays(1)));
+    }
+    
+    private DailyKey dailyKey(LocalDate date) {
+        long rolloverAt = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        return new DailyKey(date, KEY_PREFIX + date.format(DATE_FORMATTER), rolloverAt);
+    }
+    
+    public static final class DailyKey {
+        final LocalDate date;
+        final String key;
+        final List<String> keys;
+        // The key expires when its day ends
+        final long rolloverAt;
+        final String expireAtArg;
+        
+        DailyKey(LocalDate date, String key, long rolloverAt) {
+            this.date = date;
+            this.key = key;
+            this.keys = List.of(key);
+            this.rolloverAt = rolloverAt;
+            this.expireAtArg = Long.toString(rolloverAt);
+        }
+        
+        public String getKey() {
+            return key;
+        }
+    }
+    
+    private static final class Days {
+        final DailyKey yesterday;
+        final DailyKey today;
+        final DailyKey tomorrow;
+        
+        Days(DailyKey yesterday, DailyKey today, DailyKey tomorrow) {
+            this.yesterday = yesterday;
+            this.today = today;
+            this.tomorrow = tomorrow;
+        }
+    }
+}
\ No newline at end of file
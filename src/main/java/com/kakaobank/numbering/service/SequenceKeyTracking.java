@@ -0,0 +1,172 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.RedisOperationException;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateAdapter;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dedicated RESP3 connection with Redis client-side caching (CLIENT TRACKING) turned on, for
+ * reading the sequence keys behind GET /sequence/current.
+ * <p>
+ * Redis remembers the keys read on this connection and pushes one invalidation when any client
+ * next writes one of them. Every push and every disconnect bumps {@link #generation()}, so a
+ * value read while the generation stays the same is still what Redis holds. Tracking ends with
+ * the connection it was turned on for, so the first read after a reconnect turns it on again.
+ */
+@Component
+public class SequenceKeyTracking {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceKeyTracking.class);
+    static final long UNTRACKED = -1;
+
+    // Null when tracking is off
+    private final RedisClient client;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean tracking;
+
+    @Autowired
+    public SequenceKeyTracking(RedisConnectionFactory connectionFactory, SequenceProperties properties) {
+        this(properties.getCurrent().isTracking() ? trackingClient(connectionFactory) : null);
+    }
+
+    SequenceKeyTracking(RedisClient client) {
+        this.client = client;
+        if (client != null) {
+            client.addListener(new RedisConnectionStateAdapter() {
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> disconnected) {
+                    if (disconnected == connection) {
+                        onConnectionLost();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * No tracking connection, for services constructed outside the Spring context.
+     */
+    public static SequenceKeyTracking disabled() {
+        return new SequenceKeyTracking((RedisClient) null);
+    }
+
+    public boolean isEnabled() {
+        return client != null;
+    }
+
+    /**
+     * Changes whenever a value read through {@link #read} may have gone stale;
+     * {@link #UNTRACKED} when tracking is off.
+     */
+    long generation() {
+        return client != null ? generation.get() : UNTRACKED;
+    }
+
+    /**
+     * Reads {@code keys} with one MGET on the tracking connection, null for missing keys.
+     */
+    List<String> read(List<String> keys) {
+        try {
+            List<KeyValue<String, String>> values = commands().mget(keys.toArray(new String[0]));
+            List<String> result = new ArrayList<>(values.size());
+            for (KeyValue<String, String> value : values) {
+                result.add(value.getValueOrElse(null));
+            }
+            return result;
+        } catch (RedisException e) {
+            throw new RedisOperationException("Unable to read sequence: " + e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (client == null) {
+            return;
+        }
+        StatefulRedisConnection<String, String> current = connection;
+        if (current != null) {
+            current.close();
+        }
+        client.shutdown();
+    }
+
+    void onInvalidate(PushMessage message) {
+        if ("invalidate".equals(message.getType())) {
+            generation.incrementAndGet();
+        }
+    }
+
+    void onConnectionLost() {
+        // Cleared before the bump, so a reader that sees the new generation also re-enables tracking
+        tracking = false;
+        generation.incrementAndGet();
+    }
+
+    private synchronized RedisCommands<String, String> commands() {
+        if (connection == null) {
+            StatefulRedisConnection<String, String> opened = client.connect();
+            opened.addListener(this::onInvalidate);
+            connection = opened;
+        }
+        if (!tracking) {
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+            tracking = true;
+            log.info("Sequence key tracking enabled");
+        }
+        return connection.sync();
+    }
+
+    /**
+     * A client of its own pinned to RESP3, since invalidations are only pushed on RESP3
+     * connections; null when the connection factory is not a standalone Lettuce one.
+     */
+    private static RedisClient trackingClient(RedisConnectionFactory connectionFactory) {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+                || lettuce.getSentinelConfiguration() != null || lettuce.getClusterConfiguration() != null) {
+            log.warn("Sequence key tracking needs a standalone Lettuce connection; using max-staleness only");
+            return null;
+        }
+        RedisStandaloneConfiguration configuration = lettuce.getStandaloneConfiguration();
+        RedisURI.Builder uri = RedisURI.builder()
+            .withHost(configuration.getHostName())
+            .withPort(configuration.getPort())
+            .withDatabase(configuration.getDatabase())
+            .withSsl(lettuce.isUseSsl())
+            // Lettuce would otherwise wait 60 seconds for a reply; keep to the main connection's timeout
+            .withTimeout(lettuce.getClientConfiguration().getCommandTimeout());
+        if (configuration.getPassword().isPresent()) {
+            char[] password = configuration.getPassword().get();
+            if (configuration.getUsername() != null) {
+                uri.withAuthentication(configuration.getUsername(), password);
+            } else {
+                uri.withPassword(password);
+            }
+        }
+        RedisClient client = RedisClient.create(uri.build());
+        client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+        return client;
+    }
+}
\ No newline at end of file
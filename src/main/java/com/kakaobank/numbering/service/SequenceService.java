@@ -1,50 +1,103 @@
 package com.kakaobank.numbering.service;
 
+import com.kakaobank.numbering.audit.AuditLog;
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
 import com.kakaobank.numbering.exception.RedisOperationException;
 import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.Duration;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
 
 @Service
 public class SequenceService {
     
     private static final Logger log = LoggerFactory.getLogger(SequenceService.class);
-    private static final String KEY_PREFIX = "seq:";
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final long MAX_SEQUENCE_VALUE = 9_999_999_999L;
+    private static final String MAX_SEQUENCE_VALUE_ARG = Long.toString(MAX_SEQUENCE_VALUE);
+    public static final int MAX_BATCH_SIZE = 1_000_000;
     
     private final RedisTemplate<String, String> redisTemplate;
+    private final NumberingMetrics metrics;
+    private final AuditLog auditLog;
+    private final SequenceIncrementScript incrementScript;
+    private final SequenceKeyRollover keyRollover;
+    private final SequenceJournal journal;
+    private final SequenceShards shards;
+    private final RedisCallGuard redisGuard;
+    private final SequenceKeyTracking keyTracking;
+    private final CurrentSequenceCache currentCache;
+    // Added to this node's journaled mark when re-seeding, to stay above the other nodes' values
+    private final long journalHeadroom;
+    private final SequenceProperties properties;
+    // Null in increment mode
+    private final SequenceAllocator allocator;
     
     public SequenceService(RedisTemplate<String, String> redisTemplate) {
+        this(redisTemplate, new SequenceProperties());
+    }
+    
+    public SequenceService(RedisTemplate<String, String> redisTemplate, SequenceProperties properties) {
+        this(redisTemplate, properties, NumberingMetrics.noop(), new SequenceIncrementScript(redisTemplate),
+            new SequenceKeyRollover(), SequenceJournal.disabled(), new NodeIdentity(), AuditLog.disabled(),
+            RedisCallGuard.disabled(), SequenceKeyTracking.disabled());
+    }
+    
+    @Autowired
+    public SequenceService(RedisTemplate<String, String> redisTemplate, SequenceProperties properties,
+                           NumberingMetrics metrics, SequenceIncrementScript incrementScript,
+                           SequenceKeyRollover keyRollover, SequenceJournal journal, NodeIdentity nodeIdentity,
+                           AuditLog auditLog, RedisCallGuard redisGuard, SequenceKeyTracking keyTracking) {
         this.redisTemplate = redisTemplate;
+        this.metrics = metrics;
+        this.auditLog = auditLog;
+        this.incrementScript = incrementScript;
+        this.keyRollover = keyRollover;
+        this.journal = journal;
+        this.redisGuard = redisGuard;
+        this.keyTracking = keyTracking;
+        this.currentCache = new CurrentSequenceCache(properties.getCurrent(), keyTracking, metrics);
+        this.journalHeadroom = properties.getJournal().getFleetHeadroom();
+        this.shards = new SequenceShards(properties.getSharding(), nodeIdentity, MAX_SEQUENCE_VALUE);
+        this.properties = properties;
+        this.allocator = createAllocator(this::reserveRange, metrics);
+        if (shards.isSharded() && journal.isEnabled()) {
+            log.warn("Sequence journal is not applied to sharded sequence keys");
+        }
+        log.info("SequenceService initialized - Mode: {}, Shards: {}", properties.getMode(), shards.count());
     }
     
     public Long generateSequence() {
-        String key = getSequenceKey();
+        long startNanos = System.nanoTime();
+        SequenceKeyRollover.DailyKey dailyKey = keyRollover.current();
+        String key = dailyKey.key;
         
         try {
-            Long sequence = performAtomicIncrement(key);
-            
-            validateSequenceRange(sequence);
-            
-            if (sequence == 1L) {
-                setDailyExpiration(key);
-            }
+            Long sequence = allocator != null
+                ? allocator.next(key)
+                : performAtomicIncrement(dailyKey);
             
-            log.debug("Generated sequence: {} for key: {}", sequence, key);
+            auditLog.sequence(sequence);
+            metrics.recordSequence(startNanos);
             return sequence;
             
         } catch (RedisConnectionFailureException e) {
             log.error("Redis connection failed while generating sequence", e);
             throw new RedisOperationException("Unable to generate sequence: Redis connection failed", e);
+        } catch (DataAccessException e) {
+            // A timed-out or failed Redis call is Redis being unavailable, not a sequence conflict
+            throw new RedisOperationException("Unable to generate sequence: Redis call failed", e);
+        } catch (RedisOperationException e) {
+            // Rejected by the Redis guard or the coalescing queue; already counted, not logged
+            throw e;
         } catch (SequenceGenerationException e) {
             log.error("Sequence generation failed", e);
             throw e;
@@ -54,38 +107,228 @@ public class SequenceService {
         }
     }
     
-    private void setDailyExpiration(String key) {
-        LocalDateTime tomorrow = LocalDate.now().plusDays(1).atStartOfDay();
-        Duration ttl = Duration.between(LocalDateTime.now(), tomorrow);
-        redisTemplate.expire(key, ttl);
+    /**
+     * Reserves {@code count} contiguous values with a single INCRBY and returns the first one.
+     */
+    public long generateSequenceRange(int count) {
+        if (count < 1 || count > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException(
+                String.format("Batch count must be between 1 and %d, got %d", MAX_BATCH_SIZE, count));
+        }
+        SequenceKeyRollover.DailyKey dailyKey = keyRollover.current();
+        
+        try {
+            long startNanos = System.nanoTime();
+            long end = reserve(dailyKey, count, SequenceIncrementScript.STRICT);
+            metrics.recordRedisIncrementBy(startNanos);
+            long start = end - count + 1;
+            
+            auditLog.sequences(start, end);
+            return start;
+            
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis connection failed while generating sequence range", e);
+            throw new RedisOperationException("Unable to generate sequence: Redis connection failed", e);
+        } catch (DataAccessException e) {
+            // A timed-out or failed Redis call is Redis being unavailable, not a sequence conflict
+            throw new RedisOperationException("Unable to generate sequence: Redis call failed", e);
+        } catch (RedisOperationException e) {
+            throw e;
+        } catch (SequenceGenerationException e) {
+            log.error("Sequence range generation failed", e);
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error while generating sequence range", e);
+            throw new SequenceGenerationException("Unable to generate sequence", e);
+        }
     }
     
-    private void validateSequenceRange(Long sequence) {
-        if (sequence == null) {
-            throw new SequenceGenerationException("Failed to generate sequence");
+    /**
+     * Raises today's key above the journaled high-water mark before serving, so a node
+     * restarted against a Redis that lost its data does not re-issue its own values. Values
+     * other nodes issued are only skipped as far as the configured fleet headroom reaches.
+     */
+    @PostConstruct
+    public void restoreFromJournal() {
+        SequenceKeyRollover.DailyKey dailyKey = keyRollover.current();
+        long floor = journal.highWater(dailyKey);
+        if (floor == 0 || shards.isSharded()) {
+            return;
         }
-        if (sequence > MAX_SEQUENCE_VALUE) {
-            throw new SequenceGenerationException(
-                String.format("Sequence exceeded maximum value: %d (max: %d)", 
-                    sequence, MAX_SEQUENCE_VALUE));
+        try {
+            long value = incrementScript.raiseTo(dailyKey.keys, floor, reseedTarget(floor), dailyKey.expireAtArg);
+            log.info("Sequence key {} checked against journal high-water mark {}: {}", dailyKey.key, floor, value);
+        } catch (RuntimeException e) {
+            // Checked again on every reservation, so an unreachable Redis only delays this
+            log.warn("Could not restore sequence key {} from journal", dailyKey.key, e);
         }
     }
     
-    private Long performAtomicIncrement(String key) {
-        return redisTemplate.opsForValue().increment(key);
+    @PreDestroy
+    public void shutdown() {
+        if (allocator != null) {
+            allocator.shutdown();
+        }
     }
     
+    /**
+     * Runs the {@link #generateSequence()} reservation path {@code iterations} times against
+     * {@code warmupKey}, for {@link StartupWarmup}. A throwaway allocator of the configured mode
+     * takes the place of the real one, and nothing is audited, journaled or cached, so no value
+     * of the daily key is used up.
+     */
+    void warmUp(String warmupKey, long expireAtMillis, int iterations) {
+        List<String> keys = List.of(warmupKey);
+        String expireAtArg = Long.toString(expireAtMillis);
+        SequenceAllocator.RangeReserver reserver = (key, count) -> redisGuard.call(() -> incrementScript.incrementBy(
+            keys, count == 1 ? SequenceIncrementScript.ONE : Long.toString(count), MAX_SEQUENCE_VALUE_ARG,
+            expireAtArg, count == 1 ? SequenceIncrementScript.STRICT : SequenceIncrementScript.LENIENT));
+        SequenceAllocator warmupAllocator = createAllocator(reserver, NumberingMetrics.noop());
+        try {
+            for (int i = 0; i < iterations; i++) {
+                if (warmupAllocator != null) {
+                    warmupAllocator.next(warmupKey);
+                } else {
+                    reserver.reserve(warmupKey, 1);
+                }
+            }
+        } finally {
+            if (warmupAllocator != null) {
+                warmupAllocator.shutdown();
+            }
+        }
+    }
+    
+    private SequenceAllocator createAllocator(SequenceAllocator.RangeReserver reserver, NumberingMetrics metrics) {
+        switch (properties.getMode()) {
+            case SEGMENT:
+                return new SegmentSequenceAllocator(reserver, MAX_SEQUENCE_VALUE, properties.getSegment());
+            case COALESCING:
+                return new CoalescingSequenceAllocator(reserver, MAX_SEQUENCE_VALUE,
+                    properties.getCoalescing(), metrics);
+            default:
+                return null;
+        }
+    }
+    
+    private long performAtomicIncrement(SequenceKeyRollover.DailyKey dailyKey) {
+        long startNanos = System.nanoTime();
+        long sequence = reserve(dailyKey, 1, SequenceIncrementScript.STRICT);
+        metrics.recordRedisIncrement(startNanos);
+        return sequence;
+    }
+    
+    private long reserveRange(String key, long count) {
+        // Allocators only need the first value to fit; they clip the segment to the maximum
+        SequenceKeyRollover.DailyKey dailyKey = keyRollover.resolve(key);
+        long startNanos = System.nanoTime();
+        long end = reserve(dailyKey, count, SequenceIncrementScript.LENIENT);
+        metrics.recordRedisIncrementBy(startNanos);
+        return end;
+    }
+    
+    /**
+     * Reserves {@code count} values through the Redis guard, which fails fast while Redis is
+     * failing or saturated.
+     */
+    private long reserve(SequenceKeyRollover.DailyKey dailyKey, long count, String mode) {
+        return redisGuard.call(() -> reserveOnRedis(dailyKey, count, mode));
+    }
+    
+    /**
+     * Reserves {@code count} values and journals the result before anything is handed out.
+     * A range starting at or below this node's journaled high-water mark means Redis lost the
+     * key, so it is raised to the mark plus the fleet headroom and the reservation repeated.
+     */
+    private long reserveOnRedis(SequenceKeyRollover.DailyKey dailyKey, long count, String mode) {
+        String countArg = count == 1 ? SequenceIncrementScript.ONE : Long.toString(count);
+        if (shards.isSharded()) {
+            return reserveSharded(dailyKey, count, countArg);
+        }
+        long end = incrementScript.incrementBy(dailyKey.keys, countArg, MAX_SEQUENCE_VALUE_ARG,
+            dailyKey.expireAtArg, mode);
+        if (journal.isEnabled()) {
+            long floor = journal.highWater(dailyKey);
+            if (end - count < floor) {
+                log.warn("Sequence key {} is behind the journaled high-water mark {}, re-seeding", dailyKey.key, floor);
+                incrementScript.raiseTo(dailyKey.keys, floor, reseedTarget(floor), dailyKey.expireAtArg);
+                end = incrementScript.incrementBy(dailyKey.keys, countArg, MAX_SEQUENCE_VALUE_ARG,
+                    dailyKey.expireAtArg, mode);
+            }
+            journal.record(dailyKey, end);
+        }
+        // The counter as Redis left it, which is what GET /sequence/current would read
+        currentCache.observe(dailyKey.key, end);
+        return end;
+    }
+    
+    private long reseedTarget(long floor) {
+        return Math.min(floor + journalHeadroom, MAX_SEQUENCE_VALUE);
+    }
+    
+    /**
+     * Reserves on the routed shard, moving on to the next shards when it has no room left.
+     * Ranges must fit their shard whole (allocators clip to the global maximum, not the
+     * shard's block), so a segment can skip the last few values of a block.
+     */
+    private long reserveSharded(SequenceKeyRollover.DailyKey dailyKey, long count, String countArg) {
+        SequenceShards.Day day = shards.dayOf(dailyKey);
+        int first = shards.route();
+        for (int i = 0; i < shards.count(); i++) {
+            int shard = (first + i) % shards.count();
+            if (day.isExhausted(shard)) {
+                continue;
+            }
+            try {
+                long end = incrementScript.incrementBy(day.shardKeys.get(shard), countArg, day.limitArgs[shard],
+                    dailyKey.expireAtArg, SequenceIncrementScript.STRICT);
+                return shards.base(shard) + end;
+            } catch (SequenceGenerationException e) {
+                log.debug("Sequence shard {} has no room for {} values", day.keys.get(shard), count);
+                if (count == 1) {
+                    day.markExhausted(shard);
+                }
+            }
+        }
+        throw new SequenceGenerationException(String.format(
+            "Sequence exceeded maximum value on all %d shards (max: %d)", shards.count(), MAX_SEQUENCE_VALUE));
+    }
+    
+    /**
+     * Today's last issued value; when sharded, the number of values issued today across all
+     * shards, read with one MGET. Served from memory within the configured staleness bound,
+     * see {@link CurrentSequenceCache}.
+     */
     public Long getCurrentSequence() {
-        String key = getSequenceKey();
-        String value = redisTemplate.opsForValue().get(key);
-        return value != null ? Long.parseLong(value) : 0L;
+        SequenceKeyRollover.DailyKey dailyKey = keyRollover.current();
+        try {
+            return currentCache.get(dailyKey.key, () -> redisGuard.call(() -> readCurrentSequence(dailyKey)));
+        } catch (DataAccessException e) {
+            throw new RedisOperationException("Unable to read current sequence: Redis call failed", e);
+        }
     }
     
-    private String getSequenceKey() {
-        return generateDailyKey(LocalDate.now());
+    private long readCurrentSequence(SequenceKeyRollover.DailyKey dailyKey) {
+        List<String> keys = shards.isSharded() ? shards.dayOf(dailyKey).keys : dailyKey.keys;
+        if (keyTracking.isEnabled()) {
+            return sum(keyTracking.read(keys));
+        }
+        if (!shards.isSharded()) {
+            String value = redisTemplate.opsForValue().get(dailyKey.key);
+            return value != null ? Long.parseLong(value) : 0L;
+        }
+        return sum(redisTemplate.opsForValue().multiGet(keys));
     }
     
-    private String generateDailyKey(LocalDate date) {
-        return KEY_PREFIX + date.format(DATE_FORMATTER);
+    private static long sum(List<String> values) {
+        long issued = 0;
+        if (values != null) {
+            for (String value : values) {
+                if (value != null) {
+                    issued += Long.parseLong(value);
+                }
+            }
+        }
+        return issued;
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Layout of a daily sequence split over several Redis keys ({@code seq:yyyyMMdd:<shard>}), so
+ * a Redis Cluster can serve it from more than one hash slot.
+ * <p>
+ * The value space {@code 1..maxValue} is cut into one contiguous block per shard, and a shard
+ * key counts the values issued from its own block. Every shard therefore still hands out
+ * contiguous ranges, the blocks never overlap and none reaches past the maximum. Values are
+ * unique but no longer issued in global order.
+ */
+final class SequenceShards {
+
+    private final int count;
+    private final long blockSize;
+    private final long maxValue;
+    private final SequenceProperties.ShardRouting routing;
+    private final int nodeShard;
+    private volatile Day day;
+
+    SequenceShards(SequenceProperties.Sharding properties, NodeIdentity nodeIdentity, long maxValue) {
+        if (properties.getShards() < 1) {
+            throw new IllegalArgumentException("Sequence shards must be at least 1, got " + properties.getShards());
+        }
+        this.count = properties.getShards();
+        this.blockSize = maxValue / count;
+        this.maxValue = maxValue;
+        this.routing = properties.getRouting();
+        this.nodeShard = nodeIdentity.numericId(16) % count;
+    }
+
+    boolean isSharded() {
+        return count > 1;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * Shard the calling request starts with.
+     */
+    int route() {
+        if (routing == SequenceProperties.ShardRouting.NODE) {
+            return nodeShard;
+        }
+        return (int) (Thread.currentThread().threadId() % count);
+    }
+
+    /**
+     * Value just below the shard's block; a shard counter value {@code n} is issued as {@code base + n}.
+     */
+    long base(int shard) {
+        return shard * blockSize;
+    }
+
+    /**
+     * Shard keys of the given day, built once per day.
+     */
+    Day dayOf(SequenceKeyRollover.DailyKey dailyKey) {
+        Day current = day;
+        if (current == null || !current.key.equals(dailyKey.key)) {
+            current = new Day(dailyKey.key);
+            day = current;
+        }
+        return current;
+    }
+
+    final class Day {
+        final String key;
+        final List<String> keys;
+        final List<List<String>> shardKeys;
+        final String[] limitArgs;
+        // Shards found full for single values; a stale read only costs one more script call
+        private final boolean[] exhausted;
+
+        private Day(String key) {
+            this.key = key;
+            this.keys = new ArrayList<>(count);
+            this.shardKeys = new ArrayList<>(count);
+            this.limitArgs = new String[count];
+            this.exhausted = new boolean[count];
+            for (int shard = 0; shard < count; shard++) {
+                String shardKey = key + ":" + shard;
+                keys.add(shardKey);
+                shardKeys.add(List.of(shardKey));
+                // The last block also takes the remainder of the division
+                limitArgs[shard] = Long.toString(shard == count - 1 ? maxValue - base(shard) : blockSize);
+            }
+        }
+
+        boolean isExhausted(int shard) {
+            return exhausted[shard];
+        }
+
+        void markExhausted(int shard) {
+            exhausted[shard] = true;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.WarmupProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the issuance paths after the context has started and before the application reports
+ * itself ready, so the first requests a new node takes neither open the Redis connection nor
+ * run the GUID and sequence code in the interpreter.
+ * <p>
+ * Spring Boot publishes the ACCEPTING_TRAFFIC readiness state only after the runners return.
+ * Warmup GUIDs are never handed out, so they bypass the audit log and the issuance metrics, and
+ * the sequence path runs against a throwaway key that expires a minute later, so no daily
+ * sequence value is used up. A Redis failure ends the Redis part early without holding
+ * readiness back; the Redis health check reports it instead.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+    private static final int GUID_BATCH_SIZE = 100;
+
+    private final WarmupProperties properties;
+    private final GuidService guidService;
+    private final SequenceService sequenceService;
+
+    public StartupWarmup(WarmupProperties properties, GuidService guidService, SequenceService sequenceService) {
+        this.properties = properties;
+        this.guidService = guidService;
+        this.sequenceService = sequenceService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        warmGuids();
+        boolean redisWarmed = warmRedis();
+        log.info("Startup warmup finished in {} ms - GUIDs: {}, Redis warmed: {}",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), properties.getGuidIterations(), redisWarmed);
+    }
+
+    private void warmGuids() {
+        int iterations = properties.getGuidIterations();
+        for (int i = 0; i < iterations; i++) {
+            guidService.nextGuid();
+        }
+        for (int i = 0; i < iterations / GUID_BATCH_SIZE; i++) {
+            guidService.nextGuids(GUID_BATCH_SIZE);
+        }
+    }
+
+    private boolean warmRedis() {
+        long expireAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+        try {
+            sequenceService.warmUp(properties.getRedisKey(), expireAt, properties.getRedisIterations());
+            sequenceService.getCurrentSequence();
+            return true;
+        } catch (RuntimeException e) {
+            // Stops at the first failure so a missing Redis cannot open the circuit breaker
+            log.warn("Redis warmup stopped: {}", e.getMessage());
+            return false;
+        }
+    }
+}
\ No newline at end of file
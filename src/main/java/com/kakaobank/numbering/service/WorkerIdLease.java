@@ -0,0 +1,163 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.WorkerIdProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Worker ID of this node, leased from a pool in Redis ({@code numbering:worker:<id>}) so that
+ * containers sharing a pid and SERVER_ID still get distinct node identities.
+ * <p>
+ * Startup claims a free ID with SET NX, starting from a random slot so concurrent nodes
+ * rarely contend; usually that is a single round trip. A heartbeat then extends the TTL. The
+ * lease counts as held until one TTL after the last successful heartbeat was sent, which is
+ * never later than Redis expires the key, so this node stops issuing before another one can
+ * claim its ID. A crashed node's ID is free again after one TTL.
+ */
+@Component
+public class WorkerIdLease {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerIdLease.class);
+    private static final RedisScript<Long> RENEW_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/worker-renew.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/worker-release.lua"), Long.class);
+    // The GUID ProcessId field holds five digits
+    private static final int MAX_WORKERS = 100_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final WorkerIdProperties properties;
+    private final LongSupplier nanoClock;
+    private final String owner = UUID.randomUUID().toString();
+    private ScheduledExecutorService heartbeat;
+    private int workerId = -1;
+    private List<String> keys;
+    private volatile long heldUntilNanos;
+    private volatile boolean lost;
+
+    @Autowired
+    public WorkerIdLease(RedisTemplate<String, String> redisTemplate, WorkerIdProperties properties) {
+        this(redisTemplate, properties, System::nanoTime);
+    }
+
+    WorkerIdLease(RedisTemplate<String, String> redisTemplate, WorkerIdProperties properties, LongSupplier nanoClock) {
+        if (properties.getMaxWorkers() < 1 || properties.getMaxWorkers() > MAX_WORKERS) {
+            throw new IllegalArgumentException(String.format(
+                "Worker ID pool size must be between 1 and %d, got %d", MAX_WORKERS, properties.getMaxWorkers()));
+        }
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * A lease that is never taken, for services constructed outside the Spring context.
+     */
+    public static WorkerIdLease disabled() {
+        return new WorkerIdLease(null, new WorkerIdProperties());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        acquire();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "worker-id-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeat == null) {
+            return;
+        }
+        heartbeat.shutdownNow();
+        heldUntilNanos = nanoClock.getAsLong();
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, keys, owner);
+            log.info("Worker ID {} released", workerId);
+        } catch (RuntimeException e) {
+            log.warn("Could not release worker ID {}, it frees up when its lease expires", workerId, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * The leased worker ID, or -1 when leasing is disabled.
+     */
+    public int getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Whether IDs may be issued under the leased worker ID right now; always true when
+     * leasing is disabled.
+     */
+    public boolean isHeld() {
+        return !properties.isEnabled() || nanoClock.getAsLong() - heldUntilNanos < 0;
+    }
+
+    void acquire() {
+        int maxWorkers = properties.getMaxWorkers();
+        int first = ThreadLocalRandom.current().nextInt(maxWorkers);
+        for (int i = 0; i < maxWorkers; i++) {
+            int candidate = (first + i) % maxWorkers;
+            String key = properties.getKeyPrefix() + candidate;
+            long sentAt = nanoClock.getAsLong();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, properties.getLeaseTtl()))) {
+                workerId = candidate;
+                keys = List.of(key);
+                heldUntilNanos = sentAt + properties.getLeaseTtl().toNanos();
+                log.info("Worker ID {} leased after {} attempt(s) - TTL: {}", workerId, i + 1, properties.getLeaseTtl());
+                return;
+            }
+        }
+        throw new IllegalStateException("No free worker ID among " + maxWorkers + " under " + properties.getKeyPrefix());
+    }
+
+    void renew() {
+        if (lost) {
+            return;
+        }
+        long sentAt = nanoClock.getAsLong();
+        try {
+            Long held = redisTemplate.execute(RENEW_SCRIPT, keys, owner,
+                Long.toString(properties.getLeaseTtl().toMillis()));
+            if (held != null && held == 1L) {
+                heldUntilNanos = sentAt + properties.getLeaseTtl().toNanos();
+                return;
+            }
+            // Another node claimed the ID after this one missed its heartbeats; only a
+            // restart gives this node a new identity
+            lost = true;
+            heldUntilNanos = sentAt;
+            log.error("Worker ID {} is now owned by another node, ID issuance stopped until restart", workerId);
+        } catch (RuntimeException e) {
+            log.warn("Worker ID {} heartbeat failed, lease ends {} after the last successful one",
+                workerId, properties.getLeaseTtl(), e);
+        }
+    }
+}
\ No newline at end of file
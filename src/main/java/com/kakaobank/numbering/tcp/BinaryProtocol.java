@@ -0,0 +1,35 @@
+package com.kakaobank.numbering.tcp;
+
+/**
+ * Wire format of the TCP listener. All integers are big-endian.
+ * <pre>
+ * request:  [length: int = 5][op: byte][count: int]
+ * response: [length: int][status: byte][payload: length - 1 bytes]
+ * </pre>
+ * Requests may be pipelined; responses come back in request order.
+ * <ul>
+ *   <li>{@link #OP_GUID}: payload is {@code count} GUIDs as 30-byte ASCII records</li>
+ *   <li>{@link #OP_SEQUENCE}: payload is the first value (long) of {@code count} consecutive values</li>
+ * </ul>
+ * On a non-OK status the payload is a UTF-8 error message.
+ */
+public final class BinaryProtocol {
+
+    public static final byte OP_GUID = 1;
+    public static final byte OP_SEQUENCE = 2;
+
+    public static final byte STATUS_OK = 0;
+    // Same classification the REST API maps to 400, 409, 503 and 500
+    public static final byte STATUS_BAD_REQUEST = 1;
+    public static final byte STATUS_CONFLICT = 2;
+    public static final byte STATUS_UNAVAILABLE = 3;
+    public static final byte STATUS_ERROR = 4;
+
+    public static final int REQUEST_BODY_LENGTH = 5;
+    public static final int REQUEST_LENGTH = Integer.BYTES + REQUEST_BODY_LENGTH;
+    public static final int GUID_LENGTH = 30;
+    public static final int HEADER_LENGTH = Integer.BYTES + 1;
+
+    private BinaryProtocol() {
+    }
+}
\ No newline at end of file
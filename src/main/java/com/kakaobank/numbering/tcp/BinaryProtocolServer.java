@@ -0,0 +1,361 @@
+package com.kakaobank.numbering.tcp;
+
+import com.kakaobank.numbering.config.TcpProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.exception.RedisOperationException;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.SequenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * NIO listener for the {@link BinaryProtocol}, running next to the REST API on its own port.
+ * <p>
+ * Each event loop owns a selector and one direct output buffer sized for the largest response,
+ * reused for every connection it serves; each connection keeps a small direct input buffer.
+ * All complete requests in a read are answered into the output buffer and written with as few
+ * socket writes as possible. When a client stops reading, the unsent bytes are parked and the
+ * connection is not read again until they are drained.
+ * <p>
+ * Requests run on the event loop thread, so a sequence request that waits on Redis delays the
+ * other connections of that loop; segment mode keeps that wait off most requests.
+ * <p>
+ * An event loop that fails closes its connections and takes no new ones; the listener is
+ * closed once no event loop is left.
+ */
+@Component
+public class BinaryProtocolServer {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryProtocolServer.class);
+    private static final int INPUT_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_RESPONSE_LENGTH =
+        BinaryProtocol.HEADER_LENGTH + GuidService.MAX_BATCH_SIZE * BinaryProtocol.GUID_LENGTH;
+    private static final int MAX_MESSAGE_LENGTH = 256;
+
+    private final GuidService guidService;
+    private final SequenceService sequenceService;
+    private final TcpProperties properties;
+
+    private volatile boolean running;
+    private ServerSocketChannel serverChannel;
+    private EventLoop[] eventLoops;
+
+    public BinaryProtocolServer(GuidService guidService, SequenceService sequenceService, TcpProperties properties) {
+        this.guidService = guidService;
+        this.sequenceService = sequenceService;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(properties.getPort()));
+            eventLoops = new EventLoop[Math.max(1, properties.getEventLoops())];
+            for (int i = 0; i < eventLoops.length; i++) {
+                eventLoops[i] = new EventLoop(Selector.open());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start TCP listener on port " + properties.getPort(), e);
+        }
+        running = true;
+        for (int i = 0; i < eventLoops.length; i++) {
+            startThread(eventLoops[i], "numbering-tcp-loop-" + i);
+        }
+        startThread(this::accept, "numbering-tcp-acceptor");
+        log.info("BinaryProtocolServer started - Port: {}, EventLoops: {}", getPort(), eventLoops.length);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeQuietly(serverChannel);
+        for (EventLoop eventLoop : eventLoops) {
+            eventLoop.selector.wakeup();
+        }
+    }
+
+    /**
+     * The bound port, which differs from the configured one when that is 0.
+     */
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void accept() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                int attempts = 0;
+                while (!eventLoops[next].register(channel)) {
+                    next = (next + 1) % eventLoops.length;
+                    if (++attempts == eventLoops.length) {
+                        log.error("No TCP event loop left, closing the listener on port {}", properties.getPort());
+                        closeQuietly(channel);
+                        closeQuietly(serverChannel);
+                        return;
+                    }
+                }
+                next = (next + 1) % eventLoops.length;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                log.warn("Failed to accept TCP connection", e);
+            }
+        }
+    }
+
+    private static void startThread(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (IOException e) {
+            log.debug("Ignoring close failure", e);
+        }
+    }
+
+    private final class EventLoop implements Runnable {
+        final Selector selector;
+        final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+        final ByteBuffer output = ByteBuffer.allocateDirect(MAX_RESPONSE_LENGTH * 2);
+        volatile boolean alive = true;
+
+        EventLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        /**
+         * Hands a connection to this loop, or returns false when the loop has failed. A connection
+         * queued while the loop fails is either taken back here or closed by the loop.
+         */
+        boolean register(SocketChannel channel) {
+            if (!alive) {
+                return false;
+            }
+            accepted.add(channel);
+            if (!alive && accepted.remove(channel)) {
+                return false;
+            }
+            selector.wakeup();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerAccepted();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isValid() && key.isWritable()) {
+                                connection.drain();
+                            }
+                            if (key.isValid() && key.isReadable()) {
+                                connection.read();
+                            }
+                        } catch (IOException e) {
+                            log.debug("TCP connection closed: {}", e.getMessage());
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("TCP event loop failed, closing its connections and taking no new ones", e);
+            } finally {
+                alive = false;
+                SocketChannel channel;
+                while ((channel = accepted.poll()) != null) {
+                    closeQuietly(channel);
+                }
+                for (SelectionKey key : selector.keys()) {
+                    closeQuietly(key.channel());
+                }
+                closeQuietly(selector);
+            }
+        }
+
+        private void registerAccepted() {
+            SocketChannel channel;
+            while ((channel = accepted.poll()) != null) {
+                try {
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    key.attach(new Connection(channel, key, output));
+                } catch (ClosedChannelException e) {
+                    log.debug("TCP connection closed before registration");
+                }
+            }
+        }
+    }
+
+    private final class Connection {
+        final SocketChannel channel;
+        final SelectionKey key;
+        final ByteBuffer input = ByteBuffer.allocateDirect(INPUT_BUFFER_SIZE);
+        // Shared by every connection of the event loop; empty between calls
+        final ByteBuffer output;
+        // Bytes the socket did not take; no request is read while this is set
+        ByteBuffer parked;
+
+        Connection(SocketChannel channel, SelectionKey key, ByteBuffer output) {
+            this.channel = channel;
+            this.key = key;
+            this.output = output;
+        }
+
+        void read() throws IOException {
+            if (channel.read(input) < 0) {
+                close();
+                return;
+            }
+            process();
+        }
+
+        void drain() throws IOException {
+            channel.write(parked);
+            if (!parked.hasRemaining()) {
+                parked = null;
+                key.interestOps(SelectionKey.OP_READ);
+                process();
+            }
+        }
+
+        void close() {
+            key.cancel();
+            closeQuietly(channel);
+        }
+
+        private void process() throws IOException {
+            input.flip();
+            try {
+                while (parked == null && input.remaining() >= BinaryProtocol.REQUEST_LENGTH) {
+                    int length = input.getInt();
+                    if (length != BinaryProtocol.REQUEST_BODY_LENGTH) {
+                        throw new IOException("Malformed request frame, length " + length);
+                    }
+                    byte op = input.get();
+                    int count = input.getInt();
+                    handle(op, count);
+                    if (output.remaining() < MAX_RESPONSE_LENGTH) {
+                        flush();
+                    }
+                }
+                flush();
+            } finally {
+                input.compact();
+            }
+        }
+
+        private void handle(byte op, int count) {
+            int start = output.position();
+            output.position(start + BinaryProtocol.HEADER_LENGTH);
+            byte status = BinaryProtocol.STATUS_OK;
+            try {
+                switch (op) {
+                    case BinaryProtocol.OP_GUID:
+                        writeGuids(count);
+                        break;
+                    case BinaryProtocol.OP_SEQUENCE:
+                        output.putLong(count == 1
+                            ? sequenceService.generateSequence()
+                            : sequenceService.generateSequenceRange(count));
+                        break;
+                    default:
+                        throw new InvalidRequestException("Unknown op code: " + op);
+                }
+            } catch (InvalidRequestException e) {
+                status = writeError(start, BinaryProtocol.STATUS_BAD_REQUEST, e.getMessage());
+            } catch (SequenceGenerationException e) {
+                status = writeError(start, BinaryProtocol.STATUS_CONFLICT, e.getMessage());
+            } catch (RedisOperationException e) {
+                status = writeError(start, BinaryProtocol.STATUS_UNAVAILABLE, "Database operation failed");
+            } catch (RuntimeException e) {
+                log.error("TCP request failed - op: {}, count: {}", op, count, e);
+                status = writeError(start, BinaryProtocol.STATUS_ERROR, "Internal server error");
+            }
+            output.putInt(start, output.position() - start - Integer.BYTES);
+            output.put(start + Integer.BYTES, status);
+        }
+
+        private void writeGuids(int count) {
+            if (count == 1) {
+                putAscii(guidService.generateGuid());
+                return;
+            }
+            for (String guid : guidService.generateGuids(count)) {
+                putAscii(guid);
+            }
+        }
+
+        private void putAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                output.put((byte) value.charAt(i));
+            }
+        }
+
+        private byte writeError(int start, byte status, String message) {
+            byte[] bytes = String.valueOf(message).getBytes(StandardCharsets.UTF_8);
+            output.position(start + BinaryProtocol.HEADER_LENGTH);
+            output.put(bytes, 0, Math.min(bytes.length, MAX_MESSAGE_LENGTH));
+            return status;
+        }
+
+        private void flush() throws IOException {
+            output.flip();
+            try {
+                if (output.hasRemaining()) {
+                    channel.write(output);
+                }
+                if (output.hasRemaining()) {
+                    parked = ByteBuffer.allocate(output.remaining()).put(output).flip();
+                    key.interestOps(SelectionKey.OP_WRITE);
+                }
+            } finally {
+                output.clear();
+            }
+        }
+    }
+}
\ No newline at end of file
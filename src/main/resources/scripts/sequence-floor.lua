@@ -0,0 +1,23 @@
+-- Raises KEYS[1] to ARGV[2] when it is below ARGV[1], for re-seeding a key Redis lost.
+--
+-- KEYS[1]  sequence key
+-- ARGV[1]  lowest acceptable value
+-- ARGV[2]  value to re-seed a key below ARGV[1] with, at least ARGV[1]
+-- ARGV[3]  absolute expiry in epoch millis, 0 for none
+--
+-- Returns the key's value afterwards.
+local key = KEYS[1]
+local floor = tonumber(ARGV[1])
+local reseed = tonumber(ARGV[2])
+local expireAt = tonumber(ARGV[3])
+
+local current = tonumber(redis.call('GET', key) or '0')
+if current >= floor then
+    return current
+end
+
+redis.call('SET', key, ARGV[2])
+if expireAt > 0 then
+    redis.call('PEXPIREAT', key, expireAt)
+end
+return reseed
\ No newline at end of file
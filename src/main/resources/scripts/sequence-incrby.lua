@@ -0,0 +1,31 @@
+-- Atomically reserves ARGV[1] values on KEYS[1], checks them against the maximum and
+-- attaches the period expiry, all in one round trip.
+--
+-- KEYS[1]  sequence key
+-- ARGV[1]  number of values to reserve
+-- ARGV[2]  maximum sequence value
+-- ARGV[3]  absolute expiry in epoch millis, 0 for none
+-- ARGV[4]  1: the whole range must fit under the maximum, 0: only its first value must
+--
+-- Returns the last reserved value, or the offending value negated when the maximum would be
+-- exceeded (the key is left untouched in that case).
+local key = KEYS[1]
+local count = tonumber(ARGV[1])
+local max = tonumber(ARGV[2])
+local expireAt = tonumber(ARGV[3])
+
+local current = tonumber(redis.call('GET', key) or '0')
+local checked = current + 1
+if ARGV[4] == '1' then
+    checked = current + count
+end
+if checked > max then
+    return -checked
+end
+
+local value = redis.call('INCRBY', key, count)
+-- Also repairs keys left without a TTL by the former two-step INCR + EXPIRE
+if expireAt > 0 and redis.call('PTTL', key) == -1 then
+    redis.call('PEXPIREAT', key, expireAt)
+end
+return value
\ No newline at end of file
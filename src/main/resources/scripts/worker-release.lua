@@ -0,0 +1,8 @@
+-- Frees a worker ID on shutdown, unless another node already owns it.
+--
+-- KEYS[1]  worker ID key
+-- ARGV[1]  owner token of this node
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
\ No newline at end of file
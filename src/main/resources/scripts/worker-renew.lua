@@ -0,0 +1,19 @@
+-- Extends this node's worker ID lease, taking the ID back if it expired unclaimed.
+--
+-- KEYS[1]  worker ID key
+-- ARGV[1]  owner token of this node
+-- ARGV[2]  lease TTL in millis
+--
+-- Returns 1 while the lease is held, 0 once another node owns the ID.
+local key = KEYS[1]
+local owner = redis.call('GET', key)
+
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', key, ARGV[2])
+    return 1
+end
+if not owner then
+    redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+return 0
\ No newline at end of file
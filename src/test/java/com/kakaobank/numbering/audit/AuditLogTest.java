@@ -0,0 +1,187 @@
+package com.kakaobank.numbering.audit;
+
+import com.kakaobank.numbering.config.AuditProperties;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogTest {
+    
+    @TempDir
+    Path dir;
+    
+    private AuditLog auditLog;
+    
+    @AfterEach
+    void tearDown() {
+        if (auditLog != null) {
+            auditLog.stop();
+        }
+    }
+    
+    private AuditLog start(int segmentRecords, double sampleRate) {
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(dir.toString());
+        properties.setSegmentRecords(segmentRecords);
+        properties.setSampleRate(sampleRate);
+        // Larger than any test's record count, so nothing is dropped
+        properties.setRingSize(32_768);
+        auditLog = new AuditLog(properties, NumberingMetrics.noop());
+        auditLog.start();
+        return auditLog;
+    }
+    
+    private List<AuditRecord> replay() {
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.replay(dir, records::add);
+        return records;
+    }
+    
+    @Test
+    @DisplayName("기록한 발급 내역을 종료 후 순서대로 다시 읽을 수 있어야 한다")
+    void should_replay_recorded_issuance() {
+        AuditLog log = start(1024, 1.0);
+        log.guid("20240101000000000SV010000100001");
+        log.guids("20240101000000001SV010000100000", 50);
+        log.sequence(7L);
+        log.sequences(8L, 107L);
+        log.namespaceSequence("transfers", 3L);
+        log.numericId(123_456_789L);
+        log.stop();
+        
+        List<AuditRecord> records = replay();
+        
+        assertThat(records).extracting(AuditRecord::getType).containsExactly(
+            AuditRecord.Type.GUID, AuditRecord.Type.GUID, AuditRecord.Type.SEQUENCE,
+            AuditRecord.Type.SEQUENCE, AuditRecord.Type.NAMESPACE_SEQUENCE, AuditRecord.Type.NUMERIC_ID);
+        assertThat(records.get(1).getText()).isEqualTo("20240101000000001SV010000100000");
+        assertThat(records.get(1).getFirst()).isEqualTo(50L);
+        assertThat(records.get(3).getFirst()).isEqualTo(8L);
+        assertThat(records.get(3).getLast()).isEqualTo(107L);
+        assertThat(records.get(4).getText()).isEqualTo("transfers");
+    }
+    
+    @Test
+    @DisplayName("세그먼트가 가득 차면 새 세그먼트로 교체되어야 한다")
+    void should_rotate_full_segment() throws IOException {
+        AuditLog log = start(10, 1.0);
+        for (long i = 1; i <= 25; i++) {
+            log.sequence(i);
+        }
+        log.stop();
+        
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.filter(AuditLog::isSegment).count()).isEqualTo(3L);
+        }
+        assertThat(replay()).extracting(AuditRecord::getFirst)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1, 25).boxed().toList());
+    }
+    
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 유실이나 중복 없이 모두 기록되어야 한다")
+    void concurrent_records_should_all_be_written() throws Exception {
+        AuditLog log = start(100_000, 1.0);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            long base = t * 10_000L;
+            executor.execute(() -> {
+                for (long i = 0; i < 5_000; i++) {
+                    log.sequence(base + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        log.stop();
+        
+        List<AuditRecord> records = replay();
+        Set<Long> values = new HashSet<>();
+        records.forEach(record -> values.add(record.getFirst()));
+        assertThat(records).hasSize(20_000);
+        assertThat(values).hasSize(20_000);
+    }
+    
+    @Test
+    @DisplayName("샘플링 비율이 0이면 아무것도 기록하지 않아야 한다")
+    void zero_sample_rate_should_record_nothing() {
+        AuditLog log = start(1024, 0.0);
+        log.sequence(1L);
+        log.stop();
+        
+        assertThat(replay()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("세그먼트 교체에 실패해도 기록 스레드는 계속 기록해야 한다")
+    void writer_should_survive_failed_rotation() throws Exception {
+        Path auditDir = dir.resolve("audit");
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(auditDir.toString());
+        properties.setSegmentRecords(1024);
+        properties.setRotateInterval(Duration.ofMillis(10));
+        auditLog = new AuditLog(properties, NumberingMetrics.noop());
+        auditLog.start();
+        auditLog.sequence(1L);
+        
+        // A file where the directory was makes creating the next segment fail
+        Path moved = dir.resolve("moved");
+        Files.move(auditDir, moved);
+        Files.createFile(auditDir);
+        TimeUnit.MILLISECONDS.sleep(50);
+        auditLog.sequence(2L);
+        auditLog.stop();
+        
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.replay(moved, records::add);
+        assertThat(records).extracting(AuditRecord::getFirst).containsExactly(1L, 2L);
+    }
+    
+    @Test
+    @DisplayName("교체하지 못한 세그먼트가 가득 찬 뒤의 기록만 버리고 버린 수를 세야 한다")
+    void records_should_be_dropped_only_when_segment_is_full() throws Exception {
+        Path auditDir = dir.resolve("audit");
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(auditDir.toString());
+        properties.setSegmentRecords(10);
+        properties.setRotateInterval(Duration.ofMillis(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        auditLog = new AuditLog(properties, new NumberingMetrics(registry));
+        auditLog.start();
+        
+        Path moved = dir.resolve("moved");
+        Files.move(auditDir, moved);
+        Files.createFile(auditDir);
+        TimeUnit.MILLISECONDS.sleep(5);
+        for (long i = 1; i <= 25; i++) {
+            auditLog.sequence(i);
+        }
+        auditLog.stop();
+        
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.replay(moved, records::add);
+        assertThat(records).extracting(AuditRecord::getFirst).containsExactlyElementsOf(
+            LongStream.rangeClosed(1, 10).boxed().toList());
+        assertThat(registry.get("numbering.audit.dropped").counter().count()).isEqualTo(15.0);
+    }
+}
\ No newline at end of file
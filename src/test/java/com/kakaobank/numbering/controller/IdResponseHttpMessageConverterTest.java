@@ -0,0 +1,91 @@
+package com.kakaobank.numbering.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobank.numbering.dto.GuidBatchResponse;
+import com.kakaobank.numbering.dto.GuidResponse;
+import com.kakaobank.numbering.dto.NumericIdDecodeResponse;
+import com.kakaobank.numbering.dto.NumericIdResponse;
+import com.kakaobank.numbering.dto.SequenceRangeResponse;
+import com.kakaobank.numbering.dto.SequenceResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdResponseHttpMessageConverterTest {
+
+    private static final String GUID = "20240101123456789abcdefghi0001";
+
+    private final IdResponseHttpMessageConverter converter = new IdResponseHttpMessageConverter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockHttpOutputMessage write(Object response, MediaType mediaType) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, mediaType, message);
+        return message;
+    }
+
+    @Test
+    @DisplayName("JSON 응답은 Jackson과 같은 바이트를 써야 한다")
+    void json_should_match_jackson() throws IOException {
+        List<Object> responses = List.of(
+            new GuidResponse(GUID),
+            new GuidResponse("quote\"back\\slash\nline\u0001"),
+            new GuidBatchResponse(new String[] {GUID, GUID}),
+            new GuidBatchResponse(new String[0]),
+            new GuidBatchResponse(null),
+            new SequenceResponse(9_999_999_999L),
+            new SequenceResponse(null),
+            new SequenceRangeResponse(1L, 1_000L),
+            new NumericIdResponse(Long.MAX_VALUE));
+
+        for (Object response : responses) {
+            MockHttpOutputMessage message = write(response, MediaType.APPLICATION_JSON);
+
+            assertThat(message.getBodyAsBytes()).isEqualTo(objectMapper.writeValueAsBytes(response));
+            assertThat(message.getHeaders().getContentLength()).isEqualTo(message.getBodyAsBytes().length);
+        }
+    }
+
+    @Test
+    @DisplayName("text/plain 응답은 값만 한 줄에 하나씩 써야 한다")
+    void text_should_write_one_value_per_line() throws IOException {
+        assertThat(write(new SequenceResponse(42L), MediaType.TEXT_PLAIN).getBodyAsString(StandardCharsets.US_ASCII))
+            .isEqualTo("42\n");
+        assertThat(write(new SequenceRangeResponse(1L, 100L), MediaType.TEXT_PLAIN)
+            .getBodyAsString(StandardCharsets.US_ASCII)).isEqualTo("1\n100\n");
+        assertThat(write(new GuidBatchResponse(new String[] {GUID, GUID}), MediaType.TEXT_PLAIN)
+            .getBodyAsString(StandardCharsets.US_ASCII)).isEqualTo(GUID + "\n" + GUID + "\n");
+    }
+
+    @Test
+    @DisplayName("octet-stream 응답은 long을 빅엔디언 8바이트로, GUID를 30바이트 레코드로 써야 한다")
+    void binary_should_pack_longs_and_guid_records() throws IOException {
+        MockHttpOutputMessage range = write(new SequenceRangeResponse(7L, 9_999_999_999L),
+            MediaType.APPLICATION_OCTET_STREAM);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(range.getBodyAsBytes()));
+
+        assertThat(in.readLong()).isEqualTo(7L);
+        assertThat(in.readLong()).isEqualTo(9_999_999_999L);
+        assertThat(in.available()).isZero();
+        assertThat(range.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
+        assertThat(write(new GuidBatchResponse(new String[] {GUID, GUID}), MediaType.APPLICATION_OCTET_STREAM)
+            .getBodyAsString(StandardCharsets.US_ASCII)).isEqualTo(GUID + GUID);
+    }
+
+    @Test
+    @DisplayName("ID 응답 외의 타입과 요청 본문 읽기는 지원하지 않아야 한다")
+    void should_only_write_id_responses() {
+        assertThat(converter.canWrite(SequenceResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(NumericIdDecodeResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(SequenceResponse.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canRead(SequenceResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.kakaobank.numbering.controller;
+
+import com.kakaobank.numbering.config.StreamProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.SequenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdStreamWriterTest {
+    
+    @Mock
+    private SequenceService sequenceService;
+    
+    private IdStreamWriter writer;
+    
+    @BeforeEach
+    void setUp() {
+        StreamProperties properties = new StreamProperties();
+        properties.setChunkSize(1000);
+        properties.setMaxCount(10_000);
+        writer = new IdStreamWriter(new GuidService(), sequenceService, properties);
+    }
+    
+    @Test
+    @DisplayName("NDJSON GUID 스트림은 요청한 개수만큼 유일한 줄을 내보내야 한다")
+    void ndjson_guid_stream_should_write_requested_count() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        writer.writeGuids(out, 2500, IdStreamWriter.Format.NDJSON);
+        
+        String[] lines = out.toString(StandardCharsets.ISO_8859_1).split("\n");
+        assertThat(lines).hasSize(2500);
+        assertThat(lines).allMatch(line -> line.matches("\\{\"guid\":\"\\d{17}.{9}\\d{4}\"}"));
+        assertThat(Arrays.stream(lines).distinct().count()).isEqualTo(2500);
+    }
+    
+    @Test
+    @DisplayName("바이너리 Sequence 스트림은 청크마다 범위를 예약하고 빅엔디언 long으로 써야 한다")
+    void binary_sequence_stream_should_write_big_endian_longs() throws IOException {
+        when(sequenceService.generateSequenceRange(1000)).thenReturn(1L);
+        when(sequenceService.generateSequenceRange(500)).thenReturn(1001L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        writer.writeSequences(out, 1500, IdStreamWriter.Format.BINARY);
+        
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        for (long expected = 1; expected <= 1500; expected++) {
+            assertThat(in.readLong()).isEqualTo(expected);
+        }
+        assertThat(in.available()).isZero();
+        verify(sequenceService).generateSequenceRange(500);
+    }
+    
+    @Test
+    @DisplayName("NDJSON Sequence 스트림은 단건 응답과 같은 필드를 사용해야 한다")
+    void ndjson_sequence_stream_should_use_value_field() throws IOException {
+        when(sequenceService.generateSequenceRange(3)).thenReturn(9_999_999_998L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        writer.writeSequences(out, 3, IdStreamWriter.Format.NDJSON);
+        
+        assertThat(out.toString(StandardCharsets.ISO_8859_1))
+            .isEqualTo("{\"value\":9999999998}\n{\"value\":9999999999}\n{\"value\":10000000000}\n");
+    }
+    
+    @Test
+    @DisplayName("스트림 개수가 한도를 넘거나 형식이 잘못되면 요청이 거부되어야 한다")
+    void invalid_stream_request_should_be_rejected() {
+        assertThatThrownBy(() -> writer.guids(10_001, IdStreamWriter.Format.NDJSON))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Stream count must be between 1 and 10000");
+        assertThatThrownBy(() -> IdStreamWriter.Format.of("xml"))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.kakaobank.numbering.exception;
+
+import com.kakaobank.numbering.controller.IdStreamWriter;
+import com.kakaobank.numbering.controller.NumberingController;
+import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.NamespaceSequenceService;
+import com.kakaobank.numbering.service.NumericIdService;
+import com.kakaobank.numbering.service.SequenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class GlobalExceptionHandlerTest {
+    
+    @Mock
+    private GuidService guidService;
+    
+    @Mock
+    private SequenceService sequenceService;
+    
+    @Mock
+    private NumericIdService numericIdService;
+    
+    @Mock
+    private NamespaceSequenceService namespaceSequenceService;
+    
+    @Mock
+    private IdStreamWriter idStreamWriter;
+    
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        NumberingController controller = new NumberingController(guidService, sequenceService, numericIdService,
+            namespaceSequenceService, idStreamWriter);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+            .build();
+    }
+    
+    @Test
+    @DisplayName("요청 파라미터가 없거나 숫자가 아니면 400을 돌려줘야 한다")
+    void missing_or_malformed_parameter_should_be_bad_request() throws Exception {
+        mockMvc.perform(post("/api/v1/guid/batch"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Missing request parameter: count"));
+        mockMvc.perform(post("/api/v1/sequence/batch").param("count", "ten"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid value for parameter: count"));
+        mockMvc.perform(get("/api/v1/id/abc"))
+            .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("잘못된 요청 값은 사유와 함께 400을 돌려줘야 한다")
+    void invalid_request_should_be_bad_request() throws Exception {
+        when(guidService.generateGuids(0))
+            .thenThrow(new InvalidRequestException("Batch count must be between 1 and 5000, got 0"));
+        
+        mockMvc.perform(post("/api/v1/guid/batch").param("count", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Batch count must be between 1 and 5000, got 0"));
+    }
+    
+    @Test
+    @DisplayName("내부에서 발생한 IllegalArgumentException은 메시지를 숨기고 500을 돌려줘야 한다")
+    void internal_illegal_argument_should_be_server_error() throws Exception {
+        when(sequenceService.generateSequence()).thenThrow(new IllegalArgumentException("key slot 17 unmapped"));
+        
+        mockMvc.perform(post("/api/v1/sequence"))
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.error").value("Internal server error"));
+    }
+    
+    @Test
+    @DisplayName("노드 번호가 없으면 숫자 ID 요청만 503으로 거절해야 한다")
+    void numeric_id_without_node_number_should_be_unavailable() throws Exception {
+        when(numericIdService.generateId()).thenThrow(NumericIdUnavailableException.NO_NODE_ID);
+        
+        mockMvc.perform(post("/api/v1/id"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.error").value("Numeric IDs are not available on this node"));
+    }
+    
+    @Test
+    @DisplayName("JSON이 아닌 형식을 요청해도 오류 응답은 JSON으로 돌려줘야 한다")
+    void error_response_should_be_json_whatever_is_accepted() throws Exception {
+        when(sequenceService.generateSequence()).thenThrow(RedisRejectedException.CIRCUIT_OPEN);
+        
+        mockMvc.perform(post("/api/v1/sequence").accept(MediaType.TEXT_PLAIN))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.error").value("Service temporarily unavailable"));
+        mockMvc.perform(post("/api/v1/guid/batch").accept(MediaType.APPLICATION_OCTET_STREAM))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.error").value("Missing request parameter: count"));
+    }
+}
\ No newline at end of file
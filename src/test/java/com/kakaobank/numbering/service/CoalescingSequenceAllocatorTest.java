@@ -0,0 +1,178 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.RedisOperationException;
+import com.kakaobank.numbering.exception.RedisRejectedException;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingSequenceAllocatorTest {
+
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicInteger reservations = new AtomicInteger();
+    private CoalescingSequenceAllocator allocator;
+
+    @AfterEach
+    void tearDown() {
+        if (allocator != null) {
+            allocator.shutdown();
+        }
+    }
+
+    private CoalescingSequenceAllocator createAllocator(SequenceAllocator.RangeReserver reserver, long maxValue) {
+        return new CoalescingSequenceAllocator(reserver, maxValue, new SequenceProperties.Coalescing(),
+            NumberingMetrics.noop());
+    }
+
+    private long reserveSlowly(String key, long count) {
+        reservations.incrementAndGet();
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return counter.addAndGet(count);
+    }
+
+    @Test
+    @DisplayName("단일 호출자에게는 Sequence가 1부터 연속으로 발급되어야 한다")
+    void should_issue_consecutive_values() {
+        allocator = createAllocator((key, count) -> counter.addAndGet(count), Long.MAX_VALUE);
+
+        for (long expected = 1; expected <= 10; expected++) {
+            assertThat(allocator.next("seq:20250101")).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("동시 요청은 빈 구간 없이 더 적은 INCRBY로 처리되어야 한다")
+    void concurrent_requests_should_be_coalesced_without_gaps() throws InterruptedException {
+        allocator = createAllocator(this::reserveSlowly, Long.MAX_VALUE);
+        int threadCount = 32;
+        int valuesPerThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < valuesPerThread; j++) {
+                        values.add(allocator.next("seq:20250101"));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        int total = threadCount * valuesPerThread;
+        assertThat(values).hasSize(total);
+        assertThat(counter.get()).isEqualTo(total);
+        assertThat(reservations.get()).isLessThan(total);
+    }
+
+    @Test
+    @DisplayName("Redis 예외는 요청한 스레드에 그대로 전달되어야 한다")
+    void should_propagate_reservation_failure() {
+        allocator = createAllocator((key, count) -> {
+            throw new RedisConnectionFailureException("Connection failed");
+        }, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> allocator.next("seq:20250101"))
+            .isInstanceOf(RedisConnectionFailureException.class);
+    }
+
+    @Test
+    @DisplayName("최대값을 넘는 요청은 예외가 발생해야 한다")
+    void should_reject_values_beyond_max() {
+        allocator = createAllocator((key, count) -> counter.addAndGet(count), 1);
+
+        assertThat(allocator.next("seq:20250101")).isEqualTo(1L);
+        assertThatThrownBy(() -> allocator.next("seq:20250101"))
+            .isInstanceOf(SequenceGenerationException.class)
+            .hasMessageContaining("exceeded maximum value");
+    }
+
+    private SequenceAllocator.RangeReserver blockingReserver(CountDownLatch reserving, CountDownLatch release) {
+        return (key, count) -> {
+            reserving.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return counter.addAndGet(count);
+        };
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 스택 없는 공유 예외로 즉시 거절해야 한다")
+    void should_reject_when_queue_is_full() throws Exception {
+        CountDownLatch reserving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SequenceProperties.Coalescing properties = new SequenceProperties.Coalescing();
+        properties.setMaxBatchSize(1);
+        properties.setQueueCapacity(1);
+        allocator = new CoalescingSequenceAllocator(blockingReserver(reserving, release), Long.MAX_VALUE,
+            properties, NumberingMetrics.noop());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // The dispatcher holds the first request, the queue the second; the third is rejected
+            CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> allocator.next("seq:20250101"),
+                executor);
+            assertThat(reserving.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> allocator.next("seq:20250101"),
+                executor);
+            CompletableFuture<Long> third = CompletableFuture.supplyAsync(() -> allocator.next("seq:20250101"),
+                executor);
+
+            CompletableFuture.anyOf(second, third).handle((value, e) -> null).get(5, TimeUnit.SECONDS);
+            CompletableFuture<Long> rejected = second.isDone() ? second : third;
+
+            assertThatThrownBy(rejected::join).hasCause(RedisRejectedException.QUEUE_FULL);
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("값을 기다리는 시간은 설정한 제한을 넘지 않아야 한다")
+    void should_time_out_waiting_for_value() {
+        CountDownLatch release = new CountDownLatch(1);
+        SequenceProperties.Coalescing properties = new SequenceProperties.Coalescing();
+        properties.setRequestTimeout(Duration.ofMillis(50));
+        allocator = new CoalescingSequenceAllocator(blockingReserver(new CountDownLatch(1), release),
+            Long.MAX_VALUE, properties, NumberingMetrics.noop());
+        try {
+            assertThatThrownBy(() -> allocator.next("seq:20250101"))
+                .isInstanceOf(RedisOperationException.class)
+                .hasMessageContaining("Timed out");
+        } finally {
+            release.countDown();
+        }
+    }
+}
\ No newline at end of file
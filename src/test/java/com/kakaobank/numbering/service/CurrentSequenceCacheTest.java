@@ -0,0 +1,157 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.push.PushMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CurrentSequenceCacheTest {
+
+    private static final String KEY = "seq:20240101";
+
+    private final SequenceProperties.Current properties = new SequenceProperties.Current();
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger redisReads = new AtomicInteger();
+    private final AtomicLong redisValue = new AtomicLong(42);
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxStaleness(Duration.ofSeconds(1));
+    }
+
+    private CurrentSequenceCache cache(SequenceKeyTracking tracking) {
+        return new CurrentSequenceCache(properties, tracking, NumberingMetrics.noop(), nanos::get);
+    }
+
+    private long read(CurrentSequenceCache cache, String key) {
+        return cache.get(key, () -> {
+            redisReads.incrementAndGet();
+            return redisValue.get();
+        });
+    }
+
+    private static PushMessage invalidation() {
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        return message;
+    }
+
+    @Test
+    @DisplayName("허용된 지연 안에서는 Redis를 한 번만 읽어야 한다")
+    void should_read_redis_once_within_staleness() {
+        CurrentSequenceCache cache = cache(SequenceKeyTracking.disabled());
+
+        read(cache, KEY);
+        redisValue.set(50);
+        nanos.addAndGet(Duration.ofMillis(900).toNanos());
+
+        assertThat(read(cache, KEY)).isEqualTo(42L);
+        assertThat(redisReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용된 지연이 지나면 Redis를 다시 읽어야 한다")
+    void should_read_again_after_staleness() {
+        CurrentSequenceCache cache = cache(SequenceKeyTracking.disabled());
+
+        read(cache, KEY);
+        redisValue.set(50);
+        nanos.addAndGet(Duration.ofMillis(1001).toNanos());
+
+        assertThat(read(cache, KEY)).isEqualTo(50L);
+        assertThat(redisReads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이 노드의 예약 결과로 Redis 조회 없이 값이 갱신되어야 한다")
+    void reservations_should_refresh_without_redis_read() {
+        CurrentSequenceCache cache = cache(SequenceKeyTracking.disabled());
+
+        cache.observe(KEY, 100L);
+        cache.observe(KEY, 90L);
+
+        assertThat(read(cache, KEY)).isEqualTo(100L);
+        assertThat(redisReads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("날짜 키가 바뀌면 Redis를 다시 읽어야 한다")
+    void should_read_again_when_key_changes() {
+        CurrentSequenceCache cache = cache(SequenceKeyTracking.disabled());
+        cache.observe(KEY, 100L);
+
+        assertThat(read(cache, "seq:20240102")).isEqualTo(42L);
+        assertThat(redisReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 추적 중에는 무효화 전까지 지연과 무관하게 값을 반환해야 한다")
+    void tracked_value_should_be_served_until_invalidated() {
+        SequenceKeyTracking tracking = new SequenceKeyTracking(mock(RedisClient.class));
+        CurrentSequenceCache cache = cache(tracking);
+
+        read(cache, KEY);
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+        assertThat(read(cache, KEY)).isEqualTo(42L);
+
+        tracking.onInvalidate(invalidation());
+        redisValue.set(50);
+
+        assertThat(read(cache, KEY)).isEqualTo(50L);
+        assertThat(redisReads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("추적 연결이 끊기면 추적하던 값을 더 이상 신뢰하지 않아야 한다")
+    void connection_loss_should_invalidate_tracked_value() {
+        SequenceKeyTracking tracking = new SequenceKeyTracking(mock(RedisClient.class));
+        CurrentSequenceCache cache = cache(tracking);
+
+        read(cache, KEY);
+        tracking.onConnectionLost();
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        read(cache, KEY);
+        assertThat(redisReads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 값을 갱신하는 동안에는 기다리지 않고 이전 값을 반환해야 한다")
+    void stale_value_should_be_served_while_refresh_is_in_flight() throws InterruptedException {
+        CurrentSequenceCache cache = cache(SequenceKeyTracking.disabled());
+        read(cache, KEY);
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread refresher = new Thread(() -> cache.get(KEY, () -> {
+            reading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 50L;
+        }));
+        refresher.start();
+        reading.await();
+
+        assertThat(read(cache, KEY)).isEqualTo(42L);
+        assertThat(redisReads.get()).isEqualTo(1);
+
+        release.countDown();
+        refresher.join();
+        assertThat(read(cache, KEY)).isEqualTo(50L);
+    }
+}
\ No newline at end of file
@@ -1,15 +1,35 @@
 package com.kakaobank.numbering.service;
 
+import com.kakaobank.numbering.audit.AuditLog;
+import com.kakaobank.numbering.audit.AuditLogReader;
+import com.kakaobank.numbering.audit.AuditRecord;
+import com.kakaobank.numbering.config.AuditProperties;
+import com.kakaobank.numbering.config.GuidProperties;
+import com.kakaobank.numbering.exception.GuidGenerationException;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class GuidServiceTest {
     
@@ -20,6 +40,16 @@ class GuidServiceTest {
         guidService = new GuidService();
     }
     
+    private static GuidService stripedService(int stripes) {
+        GuidProperties properties = new GuidProperties();
+        properties.setCounterStripes(stripes);
+        return new GuidService(new NodeIdentity(), NumberingMetrics.noop(), AuditLog.disabled(), properties);
+    }
+    
+    private static int counterOf(String guid) {
+        return Integer.parseInt(guid.substring(26, 30));
+    }
+    
     @Test
     @DisplayName("GUID는 정확히 30자리여야 한다")
     void guid_length_should_be_30() {
@@ -88,4 +118,197 @@ class GuidServiceTest {
         
         assertThat(guids).hasSize(threadCount * guidsPerThread);
     }
+    
+    @Test
+    @DisplayName("일괄 생성된 GUID는 요청한 개수만큼 모두 유일해야 한다")
+    void batch_guids_should_be_unique() {
+        String[] guids = guidService.generateGuids(GuidService.MAX_BATCH_SIZE);
+        
+        assertThat(guids).hasSize(GuidService.MAX_BATCH_SIZE);
+        assertThat(guids).allSatisfy(guid -> assertThat(guid).hasSize(30));
+        assertThat(new HashSet<>(Arrays.asList(guids))).hasSize(GuidService.MAX_BATCH_SIZE);
+    }
+    
+    @Test
+    @DisplayName("최대 크기 일괄 생성을 반복해도 GUID는 모두 유일해야 한다")
+    void repeated_max_batches_should_be_unique() {
+        Set<String> guids = new HashSet<>();
+        
+        for (int i = 0; i < 20; i++) {
+            guids.addAll(Arrays.asList(guidService.generateGuids(GuidService.MAX_BATCH_SIZE)));
+        }
+        
+        assertThat(guids).hasSize(20 * GuidService.MAX_BATCH_SIZE);
+    }
+    
+    @Test
+    @DisplayName("일괄 생성 개수가 범위를 벗어나면 예외가 발생해야 한다")
+    void batch_count_out_of_range_should_throw() {
+        assertThatThrownBy(() -> guidService.generateGuids(0))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> guidService.generateGuids(GuidService.MAX_BATCH_SIZE + 1))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+    
+    @Test
+    @DisplayName("카운터 범위를 넘게 연속 생성해도 GUID는 모두 유일해야 한다")
+    void guids_beyond_counter_range_should_be_unique() {
+        int count = 50_000;
+        Set<String> guids = new HashSet<>();
+        
+        for (int i = 0; i < count; i++) {
+            guids.add(guidService.generateGuid());
+        }
+        
+        assertThat(guids).hasSize(count);
+    }
+    
+    @Test
+    @DisplayName("GUID 타임스탬프는 현재 시각 형식(yyyyMMddHHmmssSSS)과 일치해야 한다")
+    void guid_timestamp_should_match_current_time() {
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        String guid = guidService.generateGuid();
+        LocalDateTime after = LocalDateTime.now();
+        
+        LocalDateTime timestamp = LocalDateTime.parse(guid.substring(0, 17),
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
+        
+        assertThat(timestamp).isBetween(before, after);
+    }
+    
+    @Test
+    @DisplayName("GUID 생성 시 지연 시간이 메트릭에 기록되어야 한다")
+    void guid_generation_should_be_timed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GuidService meteredService = new GuidService(new NodeIdentity(), new NumberingMetrics(registry));
+        
+        meteredService.generateGuid();
+        meteredService.generateGuid();
+        
+        assertThat(registry.get("numbering.generate").tag("generator", "guid").timer().count()).isEqualTo(2L);
+    }
+    
+    @Test
+    @DisplayName("스트라이프 모드에서 GUID 카운터는 스레드의 스트라이프 구간에서 시작해야 한다")
+    void striped_guid_counter_should_start_in_thread_stripe() {
+        GuidService stripedService = stripedService(16);
+        int stripe = (int) (Thread.currentThread().threadId() % 16);
+        
+        String guid1 = stripedService.generateGuid();
+        String guid2 = stripedService.generateGuid();
+        
+        // Each stripe owns 625 of the 10000 counter values
+        assertThat(counterOf(guid1)).isEqualTo(stripe * 625);
+        assertThat(counterOf(guid2)).isEqualTo(counterOf(guid1) + 1);
+    }
+    
+    @Test
+    @DisplayName("스트라이프 모드에서 동시에 생성된 GUID는 모두 유일해야 한다")
+    void striped_concurrent_guids_should_be_unique() throws InterruptedException {
+        GuidService stripedService = stripedService(16);
+        int threadCount = 32;
+        int guidsPerThread = 5_000;
+        Set<String> guids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < guidsPerThread; j++) {
+                    guids.add(stripedService.generateGuid());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertThat(guids).hasSize(threadCount * guidsPerThread);
+    }
+    
+    @Test
+    @DisplayName("스트라이프 하나에 들어가지 않는 일괄 생성도 GUID는 모두 유일해야 한다")
+    void striped_batch_larger_than_stripe_should_be_unique() {
+        GuidService stripedService = stripedService(50);
+        Set<String> guids = new HashSet<>();
+        
+        for (int i = 0; i < 3; i++) {
+            guids.addAll(Arrays.asList(stripedService.generateGuids(GuidService.MAX_BATCH_SIZE)));
+        }
+        
+        assertThat(guids).hasSize(3 * GuidService.MAX_BATCH_SIZE);
+        assertThat(guids).allSatisfy(guid -> assertThat(guid).hasSize(30));
+    }
+    
+    @Test
+    @DisplayName("나누어 예약한 일괄 생성은 연속된 GUID 구간마다 감사 기록을 남겨야 한다")
+    void striped_batch_should_be_audited_as_consecutive_runs(@TempDir Path dir) {
+        AuditProperties auditProperties = new AuditProperties();
+        auditProperties.setEnabled(true);
+        auditProperties.setDirectory(dir.toString());
+        auditProperties.setSegmentRecords(1024);
+        auditProperties.setSampleRate(1.0);
+        AuditLog auditLog = new AuditLog(auditProperties, NumberingMetrics.noop());
+        auditLog.start();
+        GuidProperties properties = new GuidProperties();
+        properties.setCounterStripes(16);
+        GuidService stripedService = new GuidService(new NodeIdentity(), NumberingMetrics.noop(), auditLog,
+            properties);
+        
+        String[] guids = stripedService.generateGuids(GuidService.MAX_BATCH_SIZE);
+        auditLog.stop();
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.replay(dir, records::add);
+        
+        assertThat(records).hasSizeGreaterThan(1);
+        int position = 0;
+        for (AuditRecord record : records) {
+            assertThat(record.getType()).isEqualTo(AuditRecord.Type.GUID);
+            assertThat(record.getText()).isEqualTo(guids[position]);
+            for (int k = 1; k < record.getFirst(); k++) {
+                String guid = guids[position + k];
+                assertThat(guid.substring(0, 26)).isEqualTo(guids[position].substring(0, 26));
+                assertThat(counterOf(guid)).isEqualTo(counterOf(guids[position]) + k);
+            }
+            position += (int) record.getFirst();
+        }
+        assertThat(position).isEqualTo(GuidService.MAX_BATCH_SIZE);
+    }
+    
+    @Test
+    @DisplayName("카운터를 고르게 나누지 못하는 스트라이프 수는 거부해야 한다")
+    void invalid_stripe_count_should_throw() {
+        assertThatThrownBy(() -> stripedService(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> stripedService(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> stripedService(100)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("내보내지 않는 GUID 발급은 지연 시간 메트릭에 기록되지 않아야 한다")
+    void unrecorded_guids_should_not_be_timed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GuidService meteredService = new GuidService(new NodeIdentity(), new NumberingMetrics(registry));
+        
+        assertThat(meteredService.nextGuid()).hasSize(30);
+        assertThat(meteredService.nextGuids(10)).hasSize(10);
+        
+        assertThat(registry.get("numbering.generate").tag("generator", "guid").timer().count()).isZero();
+    }
+    
+    @Test
+    @DisplayName("시계가 뒤로 간 뒤 카운터가 소진되면 기다리지 않고 예외가 발생해야 한다")
+    void exhausted_counter_after_clock_step_back_should_fail_fast() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        GuidService clockedService = new GuidService(new NodeIdentity(), NumberingMetrics.noop(),
+            AuditLog.disabled(), new GuidProperties(), clock::get);
+        clockedService.generateGuids(GuidService.MAX_BATCH_SIZE);
+        
+        clock.addAndGet(-10_000);
+        assertThatThrownBy(() -> clockedService.generateGuids(GuidService.MAX_BATCH_SIZE))
+            .isInstanceOf(GuidGenerationException.class);
+        
+        clock.addAndGet(10_001);
+        assertThat(clockedService.generateGuids(GuidService.MAX_BATCH_SIZE)).hasSize(GuidService.MAX_BATCH_SIZE);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NamespaceSequenceServiceTest {
+    
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    
+    private NamespaceSequenceService namespaceSequenceService;
+    
+    @BeforeEach
+    void setUp() {
+        SequenceProperties properties = new SequenceProperties();
+        properties.getNamespaces().put("accounts", namespace(SequenceProperties.ResetPeriod.NEVER, 100));
+        properties.getNamespaces().put("transfers", namespace(SequenceProperties.ResetPeriod.DAILY, 100));
+        properties.getNamespaces().put("cards", namespace(SequenceProperties.ResetPeriod.MONTHLY, 100));
+        namespaceSequenceService = new NamespaceSequenceService(redisTemplate, properties, NumberingMetrics.noop(),
+            new SequenceIncrementScript(redisTemplate));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        namespaceSequenceService.shutdown();
+    }
+    
+    private static SequenceProperties.Namespace namespace(SequenceProperties.ResetPeriod reset, long maxValue) {
+        SequenceProperties.Namespace namespace = new SequenceProperties.Namespace();
+        namespace.setReset(reset);
+        namespace.setMaxValue(maxValue);
+        return namespace;
+    }
+    
+    private void givenScriptReturns(String key, Long result) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(key)), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(result);
+    }
+    
+    @Test
+    @DisplayName("초기화하지 않는 네임스페이스는 기간 없는 키를 사용하고 만료 시각을 전달하지 않아야 한다")
+    void never_reset_namespace_should_use_fixed_key() {
+        givenScriptReturns("seq:accounts", 1L);
+        
+        assertThat(namespaceSequenceService.generateSequence("accounts")).isEqualTo(1L);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), eq("100"), eq("0"), anyString());
+        verify(redisTemplate, never()).expire(anyString(), any());
+    }
+    
+    @Test
+    @DisplayName("일 단위 네임스페이스는 날짜 키를 사용하고 다음 날 자정을 만료 시각으로 전달해야 한다")
+    void daily_namespace_should_use_date_key() {
+        String expectedKey = "seq:transfers:" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String endOfDay = Long.toString(LocalDate.now().plusDays(1)
+            .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        givenScriptReturns(expectedKey, 1L);
+        
+        namespaceSequenceService.generateSequence("transfers");
+        
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), anyString(), eq(endOfDay), anyString());
+    }
+    
+    @Test
+    @DisplayName("월 단위 네임스페이스는 월 키를 사용해야 한다")
+    void monthly_namespace_should_use_month_key() {
+        String expectedKey = "seq:cards:" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+        givenScriptReturns(expectedKey, 7L);
+        
+        assertThat(namespaceSequenceService.generateSequence("cards")).isEqualTo(7L);
+    }
+    
+    @Test
+    @DisplayName("네임스페이스별 최대값을 초과하면 예외가 발생해야 한다")
+    void should_throw_exception_when_namespace_max_exceeded() {
+        givenScriptReturns("seq:accounts", -101L);
+        
+        assertThatThrownBy(() -> namespaceSequenceService.generateSequence("accounts"))
+            .isInstanceOf(SequenceGenerationException.class)
+            .hasMessageContaining("exceeded maximum value");
+    }
+    
+    @Test
+    @DisplayName("선언되지 않은 네임스페이스는 거부되어야 한다")
+    void undeclared_namespace_should_be_rejected() {
+        assertThatThrownBy(() -> namespaceSequenceService.generateSequence("loans"))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Unknown sequence namespace");
+        assertThatThrownBy(() -> namespaceSequenceService.generateSequence("current"))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+    
+    @Test
+    @DisplayName("숫자로 시작하는 네임스페이스는 일별 Sequence 키와 겹치므로 거부되어야 한다")
+    void namespace_starting_with_digit_should_be_rejected() {
+        assertThatThrownBy(() -> namespaceSequenceService.generateSequence("20240101"))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Invalid sequence namespace");
+        assertThatThrownBy(() -> namespaceSequenceService.generateSequence("1st"))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Invalid sequence namespace");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.audit.AuditLog;
+import com.kakaobank.numbering.config.NumericIdProperties;
+import com.kakaobank.numbering.exception.InvalidRequestException;
+import com.kakaobank.numbering.exception.NumericIdUnavailableException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NumericIdServiceTest {
+    
+    private final NodeIdentity nodeIdentity = new NodeIdentity("SV01", 12345);
+    private NumericIdService numericIdService;
+    
+    @BeforeEach
+    void setUp() {
+        numericIdService = new NumericIdService(nodeIdentity);
+    }
+    
+    @Test
+    @DisplayName("숫자 ID는 한 노드 안에서 단조 증가해야 한다")
+    void ids_should_be_monotonic() {
+        long previous = numericIdService.generateId();
+        
+        for (int i = 0; i < 100_000; i++) {
+            long id = numericIdService.generateId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+    
+    @Test
+    @DisplayName("숫자 ID를 분해하면 발급 시각과 노드 번호가 나와야 한다")
+    void decoded_fields_should_match_issuance() {
+        long before = System.currentTimeMillis();
+        long id = numericIdService.generateId();
+        long after = System.currentTimeMillis();
+        
+        assertThat(id).isPositive();
+        assertThat(NumericIdService.timestampOf(id)).isBetween(before, after);
+        assertThat(NumericIdService.nodeOf(id)).isEqualTo(nodeIdentity.numericId(10));
+        assertThat(NumericIdService.sequenceOf(id)).isBetween(0, 4095);
+    }
+    
+    @Test
+    @DisplayName("음수 ID는 분해할 수 없어야 한다")
+    void negative_id_should_not_be_decoded() {
+        assertThatThrownBy(() -> NumericIdService.timestampOf(-1L))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+    
+    @Test
+    @DisplayName("동시에 생성된 숫자 ID는 모두 유일해야 한다")
+    void concurrent_ids_should_be_unique() throws InterruptedException {
+        int threadCount = 8;
+        int idsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(numericIdService.generateId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        
+        latch.await();
+        executor.shutdown();
+        
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+    
+    @Test
+    @DisplayName("노드 번호를 설정하지 않으면 시작은 하되 숫자 ID는 발급하지 않아야 한다")
+    void should_refuse_ids_without_unique_node_id() {
+        NumericIdProperties properties = new NumericIdProperties();
+        NumericIdService unconfigured = new NumericIdService(nodeIdentity, NumberingMetrics.noop(),
+            AuditLog.disabled(), properties);
+        
+        assertThatThrownBy(unconfigured::generateId).isSameAs(NumericIdUnavailableException.NO_NODE_ID);
+    }
+    
+    @Test
+    @DisplayName("설정한 노드 번호가 숫자 ID의 노드 필드에 들어가야 한다")
+    void configured_node_id_should_be_used() {
+        NumericIdProperties properties = new NumericIdProperties();
+        properties.setNodeId(1023);
+        NumericIdService configured = new NumericIdService(nodeIdentity, NumberingMetrics.noop(),
+            AuditLog.disabled(), properties);
+        
+        assertThat(NumericIdService.nodeOf(configured.generateId())).isEqualTo(1023);
+        
+        properties.setNodeId(1024);
+        assertThatThrownBy(() -> new NumericIdService(nodeIdentity, NumberingMetrics.noop(), AuditLog.disabled(),
+            properties)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
\ No newline at end of file
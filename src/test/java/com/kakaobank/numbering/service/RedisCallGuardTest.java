@@ -0,0 +1,173 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.RedisGuardProperties;
+import com.kakaobank.numbering.exception.RedisRejectedException;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCallGuardTest {
+    
+    private final RedisGuardProperties properties = new RedisGuardProperties();
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger redisCalls = new AtomicInteger();
+    private RedisCallGuard guard;
+    
+    @BeforeEach
+    void setUp() {
+        properties.setWindowSize(10);
+        properties.setFailureRateThreshold(0.5);
+        properties.setOpenDuration(Duration.ofSeconds(5));
+        properties.setHalfOpenProbes(2);
+        guard = new RedisCallGuard(properties, NumberingMetrics.noop(), nanos::get);
+    }
+    
+    private long succeed() {
+        return guard.call(() -> {
+            redisCalls.incrementAndGet();
+            return 1L;
+        });
+    }
+    
+    private void fail() {
+        assertThatThrownBy(() -> guard.call(() -> {
+            redisCalls.incrementAndGet();
+            throw new RedisConnectionFailureException("down");
+        })).isInstanceOf(RedisConnectionFailureException.class);
+    }
+    
+    private void openCircuit() {
+        for (int i = 0; i < 5; i++) {
+            fail();
+        }
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.OPEN);
+    }
+    
+    @Test
+    @DisplayName("실패율이 임계값에 도달하면 회로가 열리고 Redis를 호출하지 않고 거부해야 한다")
+    void should_open_and_reject_without_calling_redis() {
+        openCircuit();
+        int callsBefore = redisCalls.get();
+        
+        assertThatThrownBy(this::succeed).isSameAs(RedisRejectedException.CIRCUIT_OPEN);
+        assertThat(redisCalls.get()).isEqualTo(callsBefore);
+    }
+    
+    @Test
+    @DisplayName("실패가 임계값 미만이면 회로가 닫힌 상태를 유지해야 한다")
+    void should_stay_closed_below_threshold() {
+        for (int i = 0; i < 20; i++) {
+            if (i % 3 == 0) {
+                fail();
+            } else {
+                succeed();
+            }
+        }
+        
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.CLOSED);
+    }
+    
+    @Test
+    @DisplayName("최대값 초과는 Redis 장애로 세지 않아야 한다")
+    void sequence_overflow_should_not_count_as_failure() {
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new SequenceGenerationException("Sequence exceeded maximum value");
+            })).isInstanceOf(SequenceGenerationException.class);
+        }
+        
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.CLOSED);
+    }
+    
+    @Test
+    @DisplayName("대기 시간이 지나면 탐색 호출이 모두 성공할 때 회로가 닫혀야 한다")
+    void should_close_after_successful_probes() {
+        openCircuit();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        
+        succeed();
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.HALF_OPEN);
+        succeed();
+        
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.CLOSED);
+    }
+    
+    @Test
+    @DisplayName("탐색 호출이 실패하면 회로가 다시 열려야 한다")
+    void should_reopen_when_probe_fails() {
+        openCircuit();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        
+        fail();
+        
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.OPEN);
+        assertThatThrownBy(this::succeed).isSameAs(RedisRejectedException.CIRCUIT_OPEN);
+    }
+    
+    @Test
+    @DisplayName("느린 호출은 성공해도 실패로 세어야 한다")
+    void slow_calls_should_count_as_failures() {
+        properties.setSlowCallThreshold(Duration.ofMillis(100));
+        guard = new RedisCallGuard(properties, NumberingMetrics.noop(), nanos::get);
+        
+        for (int i = 0; i < 5; i++) {
+            guard.call(() -> nanos.addAndGet(Duration.ofMillis(200).toNanos()));
+        }
+        
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.OPEN);
+    }
+    
+    @Test
+    @DisplayName("동시 호출 수가 한도를 넘으면 즉시 거부해야 한다")
+    void should_reject_calls_beyond_concurrency_limit() throws InterruptedException {
+        properties.getConcurrency().setInitialLimit(1);
+        properties.getConcurrency().setMinLimit(1);
+        guard = new RedisCallGuard(properties, NumberingMetrics.noop(), System::nanoTime);
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> guard.call(() -> {
+            inCall.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1L;
+        }));
+        holder.start();
+        assertThat(inCall.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        assertThatThrownBy(this::succeed).isSameAs(RedisRejectedException.LIMIT_EXCEEDED);
+        
+        release.countDown();
+        holder.join();
+    }
+    
+    @Test
+    @DisplayName("Redis 지연이 커지면 동시 호출 한도가 줄어들어야 한다")
+    void limit_should_shrink_when_latency_rises() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties.getConcurrency());
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(TimeUnit.MICROSECONDS.toNanos(200));
+        }
+        int steady = limit.get();
+        
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        
+        assertThat(steady).isEqualTo(512);
+        assertThat(limit.get()).isLessThan(steady / 4);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.exception.SequenceGenerationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentSequenceAllocatorTest {
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger reservations = new AtomicInteger();
+    private SegmentSequenceAllocator allocator;
+
+    @AfterEach
+    void tearDown() {
+        if (allocator != null) {
+            allocator.shutdown();
+        }
+    }
+
+    private SegmentSequenceAllocator createAllocator(long step, long maxValue) {
+        SequenceProperties.Segment properties = new SequenceProperties.Segment();
+        properties.setInitialStep(step);
+        properties.setMinStep(step);
+        properties.setMaxStep(step);
+        return new SegmentSequenceAllocator((key, count) -> {
+            reservations.incrementAndGet();
+            return counters.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(count);
+        }, maxValue, properties);
+    }
+
+    @Test
+    @DisplayName("세그먼트 모드에서 Sequence는 1부터 연속으로 발급되어야 한다")
+    void should_issue_consecutive_values() {
+        allocator = createAllocator(10, Long.MAX_VALUE);
+
+        for (long expected = 1; expected <= 25; expected++) {
+            assertThat(allocator.next("seq:20250101")).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트 하나를 소진하기 전에는 Redis 호출이 한 번이어야 한다")
+    void should_reserve_once_per_segment() {
+        allocator = createAllocator(1000, Long.MAX_VALUE);
+
+        allocator.next("seq:20250101");
+        allocator.next("seq:20250101");
+
+        assertThat(reservations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("날짜 키가 바뀌면 새 키에서 1부터 다시 발급되어야 한다")
+    void should_restart_on_key_rollover() {
+        allocator = createAllocator(100, Long.MAX_VALUE);
+
+        allocator.next("seq:20250101");
+        allocator.next("seq:20250101");
+
+        assertThat(allocator.next("seq:20250102")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("세그먼트는 최대값을 넘어서 발급하지 않아야 한다")
+    void should_not_issue_beyond_max_value() {
+        allocator = createAllocator(10, 5);
+
+        for (long expected = 1; expected <= 5; expected++) {
+            assertThat(allocator.next("seq:20250101")).isEqualTo(expected);
+        }
+        assertThatThrownBy(() -> allocator.next("seq:20250101"))
+            .isInstanceOf(SequenceGenerationException.class)
+            .hasMessageContaining("exceeded maximum value");
+    }
+
+    @Test
+    @DisplayName("동시에 발급된 Sequence는 모두 유일해야 한다")
+    void concurrent_values_should_be_unique() throws InterruptedException {
+        allocator = createAllocator(64, Long.MAX_VALUE);
+        int threadCount = 16;
+        int valuesPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < valuesPerThread; j++) {
+                        values.add(allocator.next("seq:20250101"));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(values).hasSize(threadCount * valuesPerThread);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.kakaobank.numbering.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceJournalTest {
+    
+    @TempDir
+    Path dir;
+    
+    private final SequenceKeyRollover keyRollover = new SequenceKeyRollover();
+    
+    @Test
+    @DisplayName("다시 열어도 기록된 최고 발급값을 읽을 수 있어야 한다")
+    void should_restore_high_water_after_reopen() {
+        Path path = dir.resolve("sequence.journal");
+        SequenceJournal journal = new SequenceJournal(path, false);
+        journal.record(keyRollover.current(), 100L);
+        journal.record(keyRollover.current(), 250L);
+        journal.close();
+        
+        SequenceJournal reopened = new SequenceJournal(path, false);
+        
+        assertThat(reopened.highWater(keyRollover.current())).isEqualTo(250L);
+    }
+    
+    @Test
+    @DisplayName("더 낮은 값은 기록하지 않아야 한다")
+    void should_ignore_lower_values() {
+        SequenceJournal journal = new SequenceJournal(dir.resolve("sequence.journal"), false);
+        journal.record(keyRollover.current(), 300L);
+        journal.record(keyRollover.current(), 200L);
+        
+        assertThat(journal.highWater(keyRollover.current())).isEqualTo(300L);
+    }
+    
+    @Test
+    @DisplayName("다른 날짜의 기록은 최고 발급값으로 사용하지 않아야 한다")
+    void should_ignore_other_days() {
+        SequenceJournal journal = new SequenceJournal(dir.resolve("sequence.journal"), false);
+        journal.record(keyRollover.current(), 300L);
+        SequenceKeyRollover.DailyKey yesterday = keyRollover.resolve(
+            "seq:" + keyRollover.current().date.minusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE));
+        
+        assertThat(journal.highWater(yesterday)).isZero();
+    }
+    
+    @Test
+    @DisplayName("마지막 기록이 깨져 있으면 직전 기록으로 복구해야 한다")
+    void should_fall_back_to_previous_slot_when_torn() throws IOException {
+        Path path = dir.resolve("sequence.journal");
+        SequenceJournal journal = new SequenceJournal(path, false);
+        journal.record(keyRollover.current(), 100L);
+        journal.record(keyRollover.current(), 200L);
+        journal.close();
+        // The second record lives in slot 0 (generation 2); break its checksum
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(8 + 24);
+            file.writeLong(0L);
+        }
+        
+        SequenceJournal reopened = new SequenceJournal(path, false);
+        
+        assertThat(reopened.highWater(keyRollover.current())).isEqualTo(100L);
+    }
+    
+    @Test
+    @DisplayName("비활성화된 저널은 아무것도 기록하지 않아야 한다")
+    void disabled_journal_should_record_nothing() {
+        SequenceJournal journal = SequenceJournal.disabled();
+        journal.record(keyRollover.current(), 100L);
+        
+        assertThat(journal.isEnabled()).isFalse();
+        assertThat(journal.highWater(keyRollover.current())).isZero();
+    }
+}
\ No newline at end of file
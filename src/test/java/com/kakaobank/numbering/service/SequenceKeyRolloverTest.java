@@ -0,0 +1,76 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceKeyRolloverTest {
+    
+    private static final ZoneId ZONE = ZoneOffset.ofHours(9);
+    
+    private final MutableClock clock = new MutableClock(LocalDateTime.of(2025, 1, 1, 23, 59, 59).atZone(ZONE).toInstant());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SequenceKeyRollover rollover = new SequenceKeyRollover(clock, new NumberingMetrics(registry));
+    
+    @Test
+    @DisplayName("같은 날에는 미리 만든 동일한 키 객체를 반환해야 한다")
+    void should_reuse_key_within_same_day() {
+        SequenceKeyRollover.DailyKey first = rollover.current();
+        
+        assertThat(first.key).isEqualTo("seq:20250101");
+        assertThat(rollover.current()).isSameAs(first);
+    }
+    
+    @Test
+    @DisplayName("자정이 지나면 다음 날 키로 넘어가고 롤오버가 한 번 기록되어야 한다")
+    void should_roll_over_at_midnight() {
+        String expireAt = rollover.current().expireAtArg;
+        
+        clock.instant = clock.instant.plusSeconds(1);
+        
+        assertThat(rollover.current().key).isEqualTo("seq:20250102");
+        assertThat(Long.parseLong(expireAt)).isEqualTo(clock.instant.toEpochMilli());
+        assertThat(registry.counter("numbering.sequence.rollover").count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    @DisplayName("할당기가 들고 있던 전날 키도 다시 찾을 수 있어야 한다")
+    void should_resolve_previous_day_key() {
+        clock.instant = clock.instant.plusSeconds(1);
+        rollover.current();
+        
+        assertThat(rollover.resolve("seq:20250101").expireAtArg)
+            .isEqualTo(Long.toString(clock.instant.toEpochMilli()));
+    }
+    
+    private static final class MutableClock extends Clock {
+        Instant instant;
+        
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
\ No newline at end of file
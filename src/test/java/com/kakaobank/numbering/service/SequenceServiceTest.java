@@ -1,25 +1,38 @@
 package com.kakaobank.numbering.service;
 
+import com.kakaobank.numbering.audit.AuditLog;
 import com.kakaobank.numbering.exception.SequenceGenerationException;
 import com.kakaobank.numbering.exception.RedisOperationException;
+import com.kakaobank.numbering.config.SequenceProperties;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,46 +48,55 @@ class SequenceServiceTest {
     
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         sequenceService = new SequenceService(redisTemplate);
     }
     
+    private void givenScriptReturns(Long result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(result);
+    }
+    
+    private static String todayKey() {
+        return "seq:" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+    
     @Test
-    @DisplayName("Sequence 생성 시 Redis INCR이 호출되어야 한다")
-    void should_call_redis_increment() {
-        when(valueOperations.increment(anyString())).thenReturn(1L);
+    @DisplayName("Sequence 생성 시 스크립트가 한 번 호출되어야 한다")
+    void should_call_increment_script_once() {
+        givenScriptReturns(1L);
         
         Long sequence = sequenceService.generateSequence();
         
         assertThat(sequence).isEqualTo(1L);
-        verify(valueOperations).increment(anyString());
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("1"), anyString(), anyString(), eq("1"));
     }
     
     @Test
-    @DisplayName("첫 번째 Sequence 생성 시 TTL이 설정되어야 한다")
-    void should_set_ttl_for_first_sequence() {
-        when(valueOperations.increment(anyString())).thenReturn(1L);
-        when(redisTemplate.expire(anyString(), any())).thenReturn(true);
+    @DisplayName("스크립트에는 오늘 자정 이후의 만료 시각이 전달되어야 한다")
+    void should_pass_end_of_day_expiry_to_script() {
+        givenScriptReturns(1L);
+        String endOfDay = Long.toString(LocalDate.now().plusDays(1)
+            .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
         
         sequenceService.generateSequence();
         
-        verify(redisTemplate).expire(anyString(), any());
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), anyString(), eq(endOfDay), anyString());
     }
     
     @Test
-    @DisplayName("두 번째 이후 Sequence 생성 시 TTL이 설정되지 않아야 한다")
-    void should_not_set_ttl_for_subsequent_sequence() {
-        when(valueOperations.increment(anyString())).thenReturn(2L);
+    @DisplayName("TTL은 스크립트 안에서 설정되므로 별도의 EXPIRE 호출이 없어야 한다")
+    void should_not_call_expire_separately() {
+        givenScriptReturns(1L);
         
         sequenceService.generateSequence();
         
-        verify(redisTemplate, times(0)).expire(anyString(), any());
+        verify(redisTemplate, never()).expire(anyString(), any());
     }
     
     @Test
     @DisplayName("Sequence가 최대값을 초과하면 예외가 발생해야 한다")
     void should_throw_exception_when_sequence_exceeds_max() {
-        when(valueOperations.increment(anyString())).thenReturn(10_000_000_000L);
+        givenScriptReturns(-10_000_000_000L);
         
         assertThatThrownBy(() -> sequenceService.generateSequence())
             .isInstanceOf(SequenceGenerationException.class)
@@ -84,7 +106,7 @@ class SequenceServiceTest {
     @Test
     @DisplayName("Redis 연결 실패 시 RedisOperationException이 발생해야 한다")
     void should_throw_exception_on_redis_connection_failure() {
-        when(valueOperations.increment(anyString()))
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
             .thenThrow(new RedisConnectionFailureException("Connection failed"));
         
         assertThatThrownBy(() -> sequenceService.generateSequence())
@@ -92,9 +114,23 @@ class SequenceServiceTest {
             .hasMessageContaining("Redis connection failed");
     }
     
+    @Test
+    @DisplayName("Redis 명령 시간 초과는 Sequence 충돌이 아니라 RedisOperationException이 되어야 한다")
+    void should_translate_redis_timeout_to_redis_operation_exception() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+            .thenThrow(new QueryTimeoutException("Redis command timed out"));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenThrow(new QueryTimeoutException("Redis command timed out"));
+        
+        assertThatThrownBy(() -> sequenceService.generateSequence()).isInstanceOf(RedisOperationException.class);
+        assertThatThrownBy(() -> sequenceService.generateSequenceRange(10)).isInstanceOf(RedisOperationException.class);
+        assertThatThrownBy(() -> sequenceService.getCurrentSequence()).isInstanceOf(RedisOperationException.class);
+    }
+    
     @Test
     @DisplayName("현재 Sequence 조회 시 값이 없으면 0을 반환해야 한다")
     void should_return_zero_when_no_current_sequence() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn(null);
         
         Long currentSequence = sequenceService.getCurrentSequence();
@@ -105,6 +141,7 @@ class SequenceServiceTest {
     @Test
     @DisplayName("현재 Sequence 조회 시 저장된 값을 반환해야 한다")
     void should_return_current_sequence_value() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn("42");
         
         Long currentSequence = sequenceService.getCurrentSequence();
@@ -112,14 +149,179 @@ class SequenceServiceTest {
         assertThat(currentSequence).isEqualTo(42L);
     }
     
+    @Test
+    @DisplayName("현재 Sequence는 허용된 지연 안에서 Redis를 다시 조회하지 않아야 한다")
+    void should_serve_current_sequence_from_memory_within_staleness() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn("42");
+        
+        sequenceService.getCurrentSequence();
+        Long currentSequence = sequenceService.getCurrentSequence();
+        
+        assertThat(currentSequence).isEqualTo(42L);
+        verify(valueOperations, times(1)).get(anyString());
+    }
+    
+    @Test
+    @DisplayName("발급 직후 현재 Sequence는 Redis 조회 없이 발급 결과를 반환해야 한다")
+    void should_return_own_reservation_as_current_sequence() {
+        givenScriptReturns(7L);
+        
+        sequenceService.generateSequence();
+        
+        assertThat(sequenceService.getCurrentSequence()).isEqualTo(7L);
+        verify(redisTemplate, never()).opsForValue();
+    }
+    
+    @Test
+    @DisplayName("워밍업은 별도 키에서 발급 경로를 실행하고 오늘의 키와 현재 값 캐시를 건드리지 않아야 한다")
+    void warm_up_should_use_warmup_key_only() {
+        givenScriptReturns(1L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(todayKey())).thenReturn("42");
+        
+        sequenceService.warmUp("numbering:warmup", System.currentTimeMillis() + 60_000, 3);
+        
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), eq(List.of("numbering:warmup")),
+            eq("1"), anyString(), anyString(), eq("1"));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(todayKey())),
+            anyString(), anyString(), anyString(), anyString());
+        assertThat(sequenceService.getCurrentSequence()).isEqualTo(42L);
+    }
+    
     @Test
     @DisplayName("Sequence 키는 날짜 기반으로 생성되어야 한다")
     void should_generate_date_based_key() {
-        String expectedKey = "seq:" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        when(valueOperations.increment(expectedKey)).thenReturn(1L);
+        givenScriptReturns(1L);
         
         sequenceService.generateSequence();
         
-        verify(valueOperations).increment(expectedKey);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(todayKey())),
+            anyString(), anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    @DisplayName("Sequence 범위 발급 시 스크립트 한 번으로 연속 구간을 예약해야 한다")
+    void should_reserve_range_with_single_script_call() {
+        givenScriptReturns(150L);
+        
+        long start = sequenceService.generateSequenceRange(100);
+        
+        assertThat(start).isEqualTo(51L);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("100"), anyString(), anyString(), eq("1"));
+    }
+    
+    @Test
+    @DisplayName("범위의 끝이 최대값을 초과하면 예외가 발생해야 한다")
+    void should_throw_exception_when_range_exceeds_max() {
+        givenScriptReturns(-10_000_000_005L);
+        
+        assertThatThrownBy(() -> sequenceService.generateSequenceRange(10))
+            .isInstanceOf(SequenceGenerationException.class)
+            .hasMessageContaining("exceeded maximum value");
+    }
+    
+    @Test
+    @DisplayName("Redis 값이 저널의 최고 발급값보다 낮으면 재설정 후 다시 예약해야 한다")
+    void should_reseed_redis_below_journal_high_water(@TempDir Path dir) {
+        SequenceKeyRollover keyRollover = new SequenceKeyRollover();
+        SequenceJournal journal = new SequenceJournal(dir.resolve("sequence.journal"), false);
+        journal.record(keyRollover.current(), 500L);
+        SequenceService service = new SequenceService(redisTemplate, new SequenceProperties(),
+            NumberingMetrics.noop(), new SequenceIncrementScript(redisTemplate), keyRollover, journal,
+            new NodeIdentity(), AuditLog.disabled(), RedisCallGuard.disabled(),
+            SequenceKeyTracking.disabled());
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(1L, 501L);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+            .thenReturn(500L);
+        
+        assertThat(service.generateSequence()).isEqualTo(501L);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("500"), eq("500"), anyString());
+        assertThat(journal.highWater(keyRollover.current())).isEqualTo(501L);
+    }
+    
+    @Test
+    @DisplayName("재설정 값에는 다른 노드가 발급했을 수 있는 여유분을 더해야 한다")
+    void reseed_should_add_fleet_headroom(@TempDir Path dir) {
+        SequenceKeyRollover keyRollover = new SequenceKeyRollover();
+        SequenceJournal journal = new SequenceJournal(dir.resolve("sequence.journal"), false);
+        journal.record(keyRollover.current(), 500L);
+        SequenceProperties properties = new SequenceProperties();
+        properties.getJournal().setFleetHeadroom(100_000L);
+        SequenceService service = new SequenceService(redisTemplate, properties,
+            NumberingMetrics.noop(), new SequenceIncrementScript(redisTemplate), keyRollover, journal,
+            new NodeIdentity(), AuditLog.disabled(), RedisCallGuard.disabled(),
+            SequenceKeyTracking.disabled());
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(1L, 100_501L);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+            .thenReturn(100_500L);
+        
+        assertThat(service.generateSequence()).isEqualTo(100_501L);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("500"), eq("100500"), anyString());
+    }
+    
+    @Test
+    @DisplayName("샤딩 모드에서는 샤드 키의 카운터에 샤드 구간의 시작값을 더해 발급해야 한다")
+    void should_offset_sharded_value_by_shard_block() {
+        SequenceService service = shardedService(4);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> {
+                List<String> keys = invocation.getArgument(1);
+                assertThat(keys.get(0)).startsWith(todayKey() + ":");
+                // The last shard's block also takes the remainder
+                assertThat((String) invocation.getArgument(3)).isIn("2499999999", "2500000002");
+                return 7L;
+            });
+        
+        long sequence = service.generateSequence();
+        
+        assertThat((sequence - 7L) % 2_499_999_999L).isZero();
+        assertThat(sequence).isBetween(7L, 9_999_999_999L);
+    }
+    
+    @Test
+    @DisplayName("배정된 샤드가 가득 차면 다음 샤드에서 발급해야 한다")
+    void should_move_to_next_shard_when_routed_shard_is_full() {
+        SequenceService service = shardedService(2);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(-5_000_000_000L, 1L);
+        
+        long first = service.generateSequence();
+        
+        assertThat(first).isIn(1L, 5_000_000_000L);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(todayKey() + ":0")),
+            anyString(), anyString(), anyString(), anyString());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(todayKey() + ":1")),
+            anyString(), anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    @DisplayName("모든 샤드가 가득 차면 예외가 발생해야 한다")
+    void should_throw_exception_when_all_shards_are_full() {
+        SequenceService service = shardedService(2);
+        givenScriptReturns(-5_000_000_000L);
+        
+        assertThatThrownBy(service::generateSequence)
+            .isInstanceOf(SequenceGenerationException.class)
+            .hasMessageContaining("all 2 shards");
+    }
+    
+    @Test
+    @DisplayName("샤딩 모드의 현재 Sequence는 모든 샤드의 발급 수를 합산해야 한다")
+    void should_sum_shard_counters_for_current_sequence() {
+        SequenceService service = shardedService(3);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of(todayKey() + ":0", todayKey() + ":1", todayKey() + ":2")))
+            .thenReturn(Arrays.asList("3", null, "4"));
+        
+        assertThat(service.getCurrentSequence()).isEqualTo(7L);
+    }
+    
+    private SequenceService shardedService(int shards) {
+        SequenceProperties properties = new SequenceProperties();
+        properties.getSharding().setShards(shards);
+        return new SequenceService(redisTemplate, properties);
     }
 }
\ No newline at end of file
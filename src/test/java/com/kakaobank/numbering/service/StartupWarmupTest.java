@@ -0,0 +1,74 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.WarmupProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    @Mock
+    private GuidService guidService;
+
+    @Mock
+    private SequenceService sequenceService;
+
+    private final WarmupProperties properties = new WarmupProperties();
+    private StartupWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        properties.setGuidIterations(1_000);
+        properties.setRedisIterations(10);
+        warmup = new StartupWarmup(properties, guidService, sequenceService);
+    }
+
+    @Test
+    @DisplayName("워밍업은 GUID 경로와 별도 키의 Sequence 발급 경로를 실행해야 한다")
+    void should_run_guid_and_sequence_paths_on_warmup_key() {
+        warmup.run(null);
+
+        verify(guidService, times(1_000)).nextGuid();
+        verify(guidService, times(10)).nextGuids(100);
+        verify(guidService, never()).generateGuid();
+        verify(sequenceService).warmUp(eq("numbering:warmup"), anyLong(), eq(10));
+        verify(sequenceService).getCurrentSequence();
+        verify(sequenceService, never()).generateSequence();
+    }
+
+    @Test
+    @DisplayName("Redis 호출이 실패하면 그 자리에서 멈추고 시작을 막지 않아야 한다")
+    void should_stop_at_first_redis_failure() {
+        doThrow(new RedisConnectionFailureException("Connection refused"))
+            .when(sequenceService).warmUp(anyString(), anyLong(), anyInt());
+
+        warmup.run(null);
+
+        verify(sequenceService, never()).getCurrentSequence();
+    }
+
+    @Test
+    @DisplayName("워밍업이 꺼져 있으면 아무것도 실행하지 않아야 한다")
+    void should_do_nothing_when_disabled() {
+        properties.setEnabled(false);
+
+        warmup.run(null);
+
+        verifyNoInteractions(guidService, sequenceService);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.kakaobank.numbering.service;
+
+import com.kakaobank.numbering.config.WorkerIdProperties;
+import com.kakaobank.numbering.exception.RedisOperationException;
+import com.kakaobank.numbering.metrics.NumberingMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkerIdLeaseTest {
+    
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    
+    private final WorkerIdProperties properties = new WorkerIdProperties();
+    private final AtomicLong nanos = new AtomicLong(1_000L);
+    private WorkerIdLease lease;
+    
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setMaxWorkers(4);
+        properties.setLeaseTtl(Duration.ofSeconds(10));
+        lease = new WorkerIdLease(redisTemplate, properties, nanos::get);
+    }
+    
+    private void givenRenewReturns(Long result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(result);
+    }
+    
+    @Test
+    @DisplayName("이미 사용 중인 ID를 건너뛰고 빈 ID를 임대해야 한다")
+    void should_lease_first_free_worker_id() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), eq(Duration.ofSeconds(10))))
+            .thenReturn(false, false, true);
+        
+        lease.acquire();
+        
+        assertThat(lease.getWorkerId()).isBetween(0, 3);
+        assertThat(lease.isHeld()).isTrue();
+        verify(valueOperations, times(3)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+    
+    @Test
+    @DisplayName("빈 ID가 없으면 시작에 실패해야 한다")
+    void should_fail_when_pool_is_full() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        
+        assertThatThrownBy(lease::acquire)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("No free worker ID");
+    }
+    
+    @Test
+    @DisplayName("하트비트가 실패하면 마지막 갱신 후 TTL이 지나면 임대가 끝나야 한다")
+    void should_expire_locally_when_heartbeat_fails() {
+        givenLeased();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+            .thenThrow(new RedisConnectionFailureException("down"));
+        
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+        lease.renew();
+        assertThat(lease.isHeld()).isTrue();
+        
+        nanos.addAndGet(Duration.ofSeconds(7).toNanos());
+        assertThat(lease.isHeld()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("하트비트가 성공하면 임대 기간이 연장되어야 한다")
+    void should_extend_lease_on_heartbeat() {
+        givenLeased();
+        givenRenewReturns(1L);
+        
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+        lease.renew();
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+        
+        assertThat(lease.isHeld()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("다른 노드가 ID를 가져가면 즉시 발급을 거부해야 한다")
+    void should_refuse_issuance_when_id_is_taken_over() {
+        givenLeased();
+        givenRenewReturns(0L);
+        
+        lease.renew();
+        
+        assertThat(lease.isHeld()).isFalse();
+        GuidService guidService = new GuidService(new NodeIdentity("SV01", 1, lease), NumberingMetrics.noop());
+        assertThatThrownBy(guidService::generateGuid)
+            .isInstanceOf(RedisOperationException.class)
+            .hasMessageContaining("lease");
+    }
+    
+    @Test
+    @DisplayName("임대한 ID가 ProcessId와 숫자 ID 노드 값으로 사용되어야 한다")
+    void should_use_worker_id_as_node_identity() {
+        givenLeased();
+        
+        NodeIdentity nodeIdentity = new NodeIdentity("SV01", 1, lease);
+        
+        assertThat(nodeIdentity.getProcessId()).isEqualTo(String.format("%05d", lease.getWorkerId()));
+        assertThat(nodeIdentity.numericId(10)).isEqualTo(lease.getWorkerId());
+    }
+    
+    @Test
+    @DisplayName("임대를 사용하지 않으면 항상 발급할 수 있어야 한다")
+    void disabled_lease_should_always_be_held() {
+        WorkerIdLease disabled = WorkerIdLease.disabled();
+        
+        assertThat(disabled.isHeld()).isTrue();
+        assertThat(disabled.getWorkerId()).isEqualTo(-1);
+    }
+    
+    private void givenLeased() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        lease.acquire();
+    }
+}
\ No newline at end of file
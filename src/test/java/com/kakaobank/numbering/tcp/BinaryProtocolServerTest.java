@@ -0,0 +1,136 @@
+package com.kakaobank.numbering.tcp;
+
+import com.kakaobank.numbering.config.TcpProperties;
+import com.kakaobank.numbering.exception.RedisOperationException;
+import com.kakaobank.numbering.service.GuidService;
+import com.kakaobank.numbering.service.SequenceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryProtocolServerTest {
+    
+    @Mock
+    private SequenceService sequenceService;
+    
+    private BinaryProtocolServer server;
+    private Socket socket;
+    private DataOutputStream out;
+    private DataInputStream in;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        TcpProperties properties = new TcpProperties();
+        properties.setEnabled(true);
+        properties.setPort(0);
+        properties.setEventLoops(1);
+        server = new BinaryProtocolServer(new GuidService(), sequenceService, properties);
+        server.start();
+        socket = new Socket("localhost", server.getPort());
+        out = new DataOutputStream(socket.getOutputStream());
+        in = new DataInputStream(socket.getInputStream());
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        socket.close();
+        server.stop();
+    }
+    
+    private void send(byte op, int count) throws IOException {
+        out.writeInt(BinaryProtocol.REQUEST_BODY_LENGTH);
+        out.writeByte(op);
+        out.writeInt(count);
+    }
+    
+    private byte[] receive(byte expectedStatus) throws IOException {
+        int length = in.readInt();
+        assertThat(in.readByte()).isEqualTo(expectedStatus);
+        byte[] payload = new byte[length - 1];
+        in.readFully(payload);
+        return payload;
+    }
+    
+    @Test
+    @DisplayName("GUID 요청은 30바이트 레코드를 요청한 개수만큼 돌려줘야 한다")
+    void guid_request_should_return_fixed_records() throws IOException {
+        send(BinaryProtocol.OP_GUID, 100);
+        out.flush();
+        
+        byte[] payload = receive(BinaryProtocol.STATUS_OK);
+        
+        assertThat(payload).hasSize(100 * BinaryProtocol.GUID_LENGTH);
+        assertThat(new String(payload, 0, BinaryProtocol.GUID_LENGTH, StandardCharsets.US_ASCII)).matches("\\d{17}.{9}\\d{4}");
+    }
+    
+    @Test
+    @DisplayName("파이프라인된 요청은 요청 순서대로 응답해야 한다")
+    void pipelined_requests_should_be_answered_in_order() throws IOException {
+        when(sequenceService.generateSequence()).thenReturn(7L);
+        when(sequenceService.generateSequenceRange(50)).thenReturn(8L);
+        
+        send(BinaryProtocol.OP_SEQUENCE, 1);
+        send(BinaryProtocol.OP_GUID, 1);
+        send(BinaryProtocol.OP_SEQUENCE, 50);
+        out.flush();
+        
+        assertThat(readLong(receive(BinaryProtocol.STATUS_OK))).isEqualTo(7L);
+        assertThat(receive(BinaryProtocol.STATUS_OK)).hasSize(BinaryProtocol.GUID_LENGTH);
+        assertThat(readLong(receive(BinaryProtocol.STATUS_OK))).isEqualTo(8L);
+    }
+    
+    @Test
+    @DisplayName("실패한 요청은 상태 코드와 메시지로 응답하고 연결은 유지되어야 한다")
+    void failures_should_be_reported_per_request() throws IOException {
+        when(sequenceService.generateSequence()).thenThrow(new RedisOperationException("Connection failed"));
+        
+        send(BinaryProtocol.OP_GUID, 0);
+        send((byte) 9, 1);
+        send(BinaryProtocol.OP_SEQUENCE, 1);
+        send(BinaryProtocol.OP_GUID, 1);
+        out.flush();
+        
+        assertThat(new String(receive(BinaryProtocol.STATUS_BAD_REQUEST), StandardCharsets.UTF_8))
+            .contains("Batch count must be between");
+        receive(BinaryProtocol.STATUS_BAD_REQUEST);
+        receive(BinaryProtocol.STATUS_UNAVAILABLE);
+        assertThat(receive(BinaryProtocol.STATUS_OK)).hasSize(BinaryProtocol.GUID_LENGTH);
+    }
+    
+    @Test
+    @DisplayName("이벤트 루프가 죽으면 새 연결을 넘기지 않고 남은 루프가 없으면 리스너를 닫아야 한다")
+    void dead_event_loop_should_not_take_new_connections() throws IOException {
+        when(sequenceService.generateSequence()).thenThrow(new StackOverflowError());
+        socket.setSoTimeout(5_000);
+        
+        send(BinaryProtocol.OP_SEQUENCE, 1);
+        out.flush();
+        assertThat(in.read()).isEqualTo(-1);
+        
+        try (Socket next = new Socket("localhost", server.getPort())) {
+            next.setSoTimeout(5_000);
+            assertThat(next.getInputStream().read()).isEqualTo(-1);
+        }
+    }
+    
+    private static long readLong(byte[] payload) {
+        long value = 0;
+        for (byte b : payload) {
+            value = (value << 8) | (b & 0xff);
+        }
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.kakaobank.numbering.support;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process stand-in for Redis covering the string commands and Lua scripts the services use,
+ * so benchmarks and load tests measure the service code rather than the network. Expiry is
+ * ignored throughout.
+ */
+public class InMemoryRedisTemplate extends RedisTemplate<String, String> {
+    
+    private static final String INCRBY_SHA = sha1Of("scripts/sequence-incrby.lua");
+    private static final String FLOOR_SHA = sha1Of("scripts/sequence-floor.lua");
+    private static final String RENEW_SHA = sha1Of("scripts/worker-renew.lua");
+    private static final String RELEASE_SHA = sha1Of("scripts/worker-release.lua");
+    
+    private final ConcurrentHashMap<String, AtomicLong> values = new ConcurrentHashMap<>();
+    // Non-numeric values: worker ID lease owners
+    private final ConcurrentHashMap<String, String> owners = new ConcurrentHashMap<>();
+    private final long latencyNanos;
+    
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = (ValueOperations<String, String>)
+        Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ValueOperations.class},
+            (proxy, method, args) -> invoke(method, args));
+    
+    public InMemoryRedisTemplate() {
+        this(Duration.ZERO);
+    }
+    
+    /**
+     * Blocks every command for {@code latency}, standing in for the network round trip.
+     */
+    public InMemoryRedisTemplate(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+    
+    @Override
+    public void afterPropertiesSet() {
+        // Nothing to connect; lets the stand-in be registered as a Spring bean
+    }
+    
+    @Override
+    public ValueOperations<String, String> opsForValue() {
+        return valueOperations;
+    }
+    
+    @Override
+    public Boolean expire(String key, Duration timeout) {
+        return values.containsKey(key);
+    }
+    
+    /**
+     * Emulates the scripts under scripts/, matched by SHA-1; any other script is rejected.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        simulateRoundTrip();
+        String sha = script.getSha1();
+        if (INCRBY_SHA.equals(sha)) {
+            return (T) incrementBy(keys.get(0), args);
+        }
+        if (FLOOR_SHA.equals(sha)) {
+            return (T) raiseTo(keys.get(0), args);
+        }
+        if (RENEW_SHA.equals(sha)) {
+            return (T) renew(keys.get(0), (String) args[0]);
+        }
+        if (RELEASE_SHA.equals(sha)) {
+            return (T) Long.valueOf(owners.remove(keys.get(0), args[0]) ? 1L : 0L);
+        }
+        throw new UnsupportedOperationException("Script not emulated by the stand-in: " + sha);
+    }
+    
+    // scripts/sequence-incrby.lua: count, max value, expiry, mode
+    private Long incrementBy(String key, Object[] args) {
+        long count = Long.parseLong((String) args[0]);
+        long max = Long.parseLong((String) args[1]);
+        boolean strict = "1".equals(args[3]);
+        AtomicLong value = values.computeIfAbsent(key, k -> new AtomicLong());
+        while (true) {
+            long current = value.get();
+            long checked = strict ? current + count : current + 1;
+            if (checked > max) {
+                return -checked;
+            }
+            if (value.compareAndSet(current, current + count)) {
+                return current + count;
+            }
+        }
+    }
+    
+    // scripts/sequence-floor.lua: floor, re-seed value, expiry
+    private Long raiseTo(String key, Object[] args) {
+        long floor = Long.parseLong((String) args[0]);
+        long reseed = Long.parseLong((String) args[1]);
+        AtomicLong value = values.computeIfAbsent(key, k -> new AtomicLong());
+        while (true) {
+            long current = value.get();
+            if (current >= floor) {
+                return current;
+            }
+            if (value.compareAndSet(current, reseed)) {
+                return reseed;
+            }
+        }
+    }
+    
+    // scripts/worker-renew.lua: owner, TTL
+    private Long renew(String key, String owner) {
+        String current = owners.putIfAbsent(key, owner);
+        return current == null || current.equals(owner) ? 1L : 0L;
+    }
+    
+    private Object invoke(Method method, Object[] args) {
+        simulateRoundTrip();
+        switch (method.getName()) {
+            case "increment":
+                long delta = args.length > 1 ? (Long) args[1] : 1L;
+                return values.computeIfAbsent((String) args[0], key -> new AtomicLong()).addAndGet(delta);
+            case "setIfAbsent":
+                return owners.putIfAbsent((String) args[0], (String) args[1]) == null;
+            case "get":
+                AtomicLong value = values.get((String) args[0]);
+                return value != null ? Long.toString(value.get()) : null;
+            case "multiGet":
+                List<String> result = new ArrayList<>();
+                for (Object key : (Collection<?>) args[0]) {
+                    AtomicLong current = values.get((String) key);
+                    result.add(current != null ? Long.toString(current.get()) : null);
+                }
+                return result;
+            default:
+                throw new UnsupportedOperationException("Not supported by the stand-in: " + method.getName());
+        }
+    }
+    
+    private static String sha1Of(String path) {
+        return RedisScript.of(new ClassPathResource(path), Long.class).getSha1();
+    }
+    
+    private void simulateRoundTrip() {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+}
\ No newline at end of file